@@ -0,0 +1,134 @@
+package com.javaquery.spring.cache;
+
+import com.javaquery.util.cache.CacheLookup;
+import com.javaquery.util.cache.LruCache;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of entities by id for {@link com.javaquery.spring.service.AbstractService}. Bounded with
+ * least-recently-used eviction and time to live, optionally caches missing ids too.
+ *
+ * <p>Entities are loaded by entity manager of their own and closed right after, so cached entities are detached
+ * instances holding committed state, shared between callers. Lazy associations not loaded by then can't be
+ * initialized, use it for read-mostly entities with eagerly fetched state and don't modify returned instance outside
+ * of {@code save}; changes committed through dirty checking alone aren't evicted until time to live passes.
+ *
+ * <pre>
+ * public CountryService(
+ *         CountryRepository repository,
+ *         ApplicationEventPublisher applicationEventPublisher,
+ *         EntityManager entityManager) {
+ *     super(repository, applicationEventPublisher);
+ *     withEntityManager(entityManager);
+ *     withEntityCache(new EntityCache&lt;&gt;(Country.class, Country::getId, 10_000, Duration.ofMinutes(10))
+ *             .withNegativeTimeToLive(Duration.ofSeconds(30)));
+ * }
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class EntityCache<T, ID> {
+    private final Class<T> entityType;
+    private final Function<T, ID> idFunction;
+    private final LruCache<ID, T> cache;
+    private boolean publishEvictions;
+
+    /**
+     * @param entityType the entity type
+     * @param idFunction returns id of entity
+     * @param maximumSize maximum number of cached entities
+     * @param timeToLive time to live of cached entity
+     */
+    public EntityCache(Class<T> entityType, Function<T, ID> idFunction, int maximumSize, Duration timeToLive) {
+        this.entityType = entityType;
+        this.idFunction = idFunction;
+        this.cache = new LruCache<>(maximumSize, timeToLive);
+    }
+
+    /**
+     * Cache ids not found in repository for given time.
+     *
+     * @param negativeTimeToLive time to live of missing id
+     * @return the entity cache
+     */
+    public EntityCache<T, ID> withNegativeTimeToLive(Duration negativeTimeToLive) {
+        cache.withNegativeTimeToLive(negativeTimeToLive);
+        return this;
+    }
+
+    /**
+     * Publish {@link EntityCacheEvictEvent} after commit when entities are saved or deleted.
+     *
+     * @param publishEvictions publish evictions
+     * @return the entity cache
+     */
+    public EntityCache<T, ID> withPublishEvictions(boolean publishEvictions) {
+        this.publishEvictions = publishEvictions;
+        return this;
+    }
+
+    /**
+     * Get cached entity or load it.
+     *
+     * @param id the id
+     * @param loader loads entity, returns {@code null} if not found
+     * @return the entity or {@code null} if not found
+     */
+    public T get(ID id, Function<? super ID, ? extends T> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * @param id the id
+     * @return the cache lookup, {@link CacheLookup#isCached()} is {@code true} for id cached as missing too
+     */
+    public CacheLookup<T> getIfPresent(ID id) {
+        return cache.getIfPresent(id);
+    }
+
+    public ID idOf(T entity) {
+        return entity == null ? null : idFunction.apply(entity);
+    }
+
+    public void evict(ID id) {
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Evict ids of event published by other instance, call it from {@code @EventListener} of relayed events.
+     *
+     * @param event the event
+     */
+    @SuppressWarnings("unchecked")
+    public void evict(EntityCacheEvictEvent event) {
+        if (entityType.equals(event.getEntityType())) {
+            for (Object id : event.getIds()) {
+                evict((ID) id);
+            }
+        }
+    }
+
+    public Class<T> getEntityType() {
+        return entityType;
+    }
+
+    public boolean isPublishEvictions() {
+        return publishEvictions;
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+}
@@ -0,0 +1,28 @@
+package com.javaquery.spring.cache;
+
+import java.util.Collection;
+
+/**
+ * Published through {@link org.springframework.context.ApplicationEventPublisher} after entities are saved or deleted
+ * by a service with {@link EntityCache}, so caches of other instances can be invalidated by relaying this event.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class EntityCacheEvictEvent {
+    private final Class<?> entityType;
+    private final Collection<?> ids;
+
+    public EntityCacheEvictEvent(Class<?> entityType, Collection<?> ids) {
+        this.entityType = entityType;
+        this.ids = ids;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public Collection<?> getIds() {
+        return ids;
+    }
+}
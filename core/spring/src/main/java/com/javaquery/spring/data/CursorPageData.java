@@ -0,0 +1,55 @@
+package com.javaquery.spring.data;
+
+import java.util.List;
+
+/**
+ * Page of keyset pagination, counterpart of {@link PageData}.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class CursorPageData<T> {
+    private final long totalElements;
+    private final boolean totalEstimated;
+    private final int pageSize;
+    private final String nextCursor;
+    private final List<T> data;
+
+    public CursorPageData(long totalElements, boolean totalEstimated, int pageSize, String nextCursor, List<T> data) {
+        this.totalElements = totalElements;
+        this.totalEstimated = totalEstimated;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.data = data;
+    }
+
+    /**
+     * @return total elements or {@code -1} if not counted
+     */
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public boolean isTotalEstimated() {
+        return totalEstimated;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return cursor of next page or {@code null} if this is last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public List<T> getData() {
+        return data;
+    }
+}
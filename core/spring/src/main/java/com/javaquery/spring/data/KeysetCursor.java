@@ -0,0 +1,150 @@
+package com.javaquery.spring.data;
+
+import com.javaquery.util.io.BinaryReader;
+import com.javaquery.util.io.BinaryWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Opaque, URL safe cursor of keyset pagination holding sort key and id of last row of a page. {@link Date} and its
+ * {@code java.sql} subtypes are held as epoch millis, plus nanos of {@link Timestamp}, so cursor doesn't depend on
+ * default time zone of JVM.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class KeysetCursor {
+
+    private static final int VERSION = 2;
+
+    private KeysetCursor() {}
+
+    /**
+     * @param values values of last row, in order of keyset
+     * @return the cursor
+     */
+    public static String encode(Object... values) {
+        BinaryWriter writer = new BinaryWriter(64).writeByte(VERSION).writeVarInt(values.length);
+        for (Object value : values) {
+            writer.writeString(toString(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(writer.toByteArray());
+    }
+
+    /**
+     * @param cursor the cursor
+     * @param types types of values, in order of keyset
+     * @return the values
+     * @throws IllegalArgumentException if cursor is malformed or doesn't match types
+     */
+    public static Object[] decode(String cursor, Class<?>... types) {
+        try {
+            BinaryReader reader = new BinaryReader(Base64.getUrlDecoder().decode(cursor));
+            if (reader.readByte() != VERSION || reader.readVarInt() != types.length) {
+                throw new IllegalArgumentException("Invalid cursor " + cursor);
+            }
+            Object[] values = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                String value = reader.readString();
+                values[i] = value == null ? null : fromString(value, types[i]);
+            }
+            return values;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+
+    private static String toString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) value;
+            return timestamp.getTime() + ":" + timestamp.getNanos();
+        }
+        if (value instanceof Date) {
+            return Long.toString(((Date) value).getTime());
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object fromString(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        } else if (type == Long.class || type == long.class) {
+            return Long.valueOf(value);
+        } else if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(value);
+        } else if (type == Short.class || type == short.class) {
+            return Short.valueOf(value);
+        } else if (type == Byte.class || type == byte.class) {
+            return Byte.valueOf(value);
+        } else if (type == Double.class || type == double.class) {
+            return Double.valueOf(value);
+        } else if (type == Float.class || type == float.class) {
+            return Float.valueOf(value);
+        } else if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(value);
+        } else if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        } else if (type == BigInteger.class) {
+            return new BigInteger(value);
+        } else if (type == UUID.class) {
+            return UUID.fromString(value);
+        } else if (type == Instant.class) {
+            return Instant.parse(value);
+        } else if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        } else if (type == LocalTime.class) {
+            return LocalTime.parse(value);
+        } else if (type == OffsetDateTime.class) {
+            return OffsetDateTime.parse(value);
+        } else if (type == ZonedDateTime.class) {
+            return ZonedDateTime.parse(value);
+        } else if (Date.class.isAssignableFrom(type)) {
+            return toDate(value, type);
+        } else if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        throw new IllegalArgumentException("Unsupported cursor type " + type.getName());
+    }
+
+    /**
+     * JPA provider may return {@link Timestamp} for attribute declared as {@link Date}, so nanos are kept for it too,
+     * otherwise rows within the same millisecond as cursor would be read again.
+     */
+    private static Date toDate(String value, Class<?> type) {
+        int separator = value.indexOf(':');
+        long time = Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        if (type == Timestamp.class || (type == Date.class && separator >= 0)) {
+            Timestamp timestamp = new Timestamp(time);
+            if (separator >= 0) {
+                timestamp.setNanos(Integer.parseInt(value.substring(separator + 1)));
+            }
+            return timestamp;
+        } else if (type == Date.class) {
+            return new Date(time);
+        } else if (type == java.sql.Date.class) {
+            return new java.sql.Date(time);
+        } else if (type == java.sql.Time.class) {
+            return new java.sql.Time(time);
+        }
+        throw new IllegalArgumentException("Unsupported cursor type " + type.getName());
+    }
+}
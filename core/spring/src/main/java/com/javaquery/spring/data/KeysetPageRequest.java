@@ -0,0 +1,110 @@
+package com.javaquery.spring.data;
+
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Request of keyset (seek) pagination, rows are read after {@link #getCursor()} ordered by sort property and id
+ * instead of skipping offset rows, so every page costs the same. Sort property must be non-null.
+ *
+ * <pre>
+ * KeysetPageRequest request = new KeysetPageRequest("createdAt", Sort.Direction.DESC, 50).withCursor(cursor);
+ * CursorPageData&lt;Order&gt; page = orderService.findAll(specification, request);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class KeysetPageRequest {
+
+    public enum CountMode {
+        /** Don't count, {@link CursorPageData#getTotalElements()} is {@code -1}. */
+        NONE,
+        /** Count only for first page, client keeps total while paging. */
+        FIRST_PAGE,
+        /** Count for every page. */
+        EVERY_PAGE,
+        /** Use count estimator, e.g. table statistics of database. */
+        ESTIMATE
+    }
+
+    private final String sortProperty;
+    private final Sort.Direction direction;
+    private final int pageSize;
+    private String idProperty = "id";
+    private String cursor;
+    private CountMode countMode = CountMode.NONE;
+    private LongSupplier countEstimator;
+
+    public KeysetPageRequest(String sortProperty, Sort.Direction direction, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        this.sortProperty = sortProperty;
+        this.direction = direction;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @param idProperty unique property breaking ties of sort property, {@code id} by default
+     * @return the keyset page request
+     */
+    public KeysetPageRequest withIdProperty(String idProperty) {
+        this.idProperty = idProperty;
+        return this;
+    }
+
+    /**
+     * @param cursor {@link CursorPageData#getNextCursor()} of previous page, {@code null} for first page
+     * @return the keyset page request
+     */
+    public KeysetPageRequest withCursor(String cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
+    public KeysetPageRequest withCountMode(CountMode countMode) {
+        this.countMode = countMode;
+        return this;
+    }
+
+    /**
+     * Estimate total instead of counting, e.g. {@code reltuples} of PostgreSQL {@code pg_class}.
+     *
+     * @param countEstimator the count estimator
+     * @return the keyset page request
+     */
+    public KeysetPageRequest withCountEstimator(LongSupplier countEstimator) {
+        this.countEstimator = countEstimator;
+        this.countMode = CountMode.ESTIMATE;
+        return this;
+    }
+
+    public String getSortProperty() {
+        return sortProperty;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public String getIdProperty() {
+        return idProperty;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    public LongSupplier getCountEstimator() {
+        return countEstimator;
+    }
+}
@@ -0,0 +1,48 @@
+package com.javaquery.spring.data;
+
+import com.javaquery.util.io.BinaryCodec;
+import com.javaquery.util.io.BinaryReader;
+import com.javaquery.util.io.BinaryWriter;
+import java.util.List;
+
+/**
+ * Binary codec of {@link PageData}, use as payload codec of {@link com.javaquery.util.http.CommonResponseCodec}
+ * when response format is {@link com.javaquery.util.http.ResponseFormat#BINARY}.
+ *
+ * <pre>
+ * CommonResponseCodec&lt;PageData&lt;User&gt;&gt; codec =
+ *         new CommonResponseCodec&lt;&gt;(new PageDataCodec&lt;&gt;(USER));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class PageDataCodec<T> implements BinaryCodec<PageData<T>> {
+
+    private final BinaryCodec<List<T>> dataCodec;
+
+    /**
+     * @param itemCodec codec of single item of {@link PageData#getData()}
+     */
+    public PageDataCodec(BinaryCodec<T> itemCodec) {
+        this.dataCodec = BinaryCodec.listOf(itemCodec);
+    }
+
+    @Override
+    public void encode(PageData<T> pageData, BinaryWriter writer) {
+        writer.writeLong(pageData.getTotalElements())
+                .writeInt(pageData.getTotalPages())
+                .writeInt(pageData.getCurrentPage())
+                .writeInt(pageData.getPageSize());
+        dataCodec.encode(pageData.getData(), writer);
+    }
+
+    @Override
+    public PageData<T> decode(BinaryReader reader) {
+        long totalElements = reader.readLong();
+        int totalPages = reader.readInt();
+        int currentPage = reader.readInt();
+        int pageSize = reader.readInt();
+        return new PageData<>(totalElements, totalPages, currentPage, pageSize, dataCodec.decode(reader));
+    }
+}
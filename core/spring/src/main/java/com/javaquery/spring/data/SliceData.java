@@ -0,0 +1,39 @@
+package com.javaquery.spring.data;
+
+import java.util.List;
+
+/**
+ * Page without total, counterpart of {@link PageData} when knowing whether next page exists is enough.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class SliceData<T> {
+    private final int currentPage;
+    private final int pageSize;
+    private final boolean hasNext;
+    private final List<T> data;
+
+    public SliceData(int currentPage, int pageSize, boolean hasNext, List<T> data) {
+        this.currentPage = currentPage;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+        this.data = data;
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public List<T> getData() {
+        return data;
+    }
+}
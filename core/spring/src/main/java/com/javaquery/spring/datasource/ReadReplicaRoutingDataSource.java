@@ -0,0 +1,68 @@
+package com.javaquery.spring.datasource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-only transactions, e.g. reads of {@link com.javaquery.spring.service.AbstractService},
+ * round-robin to replica pools and everything else to primary. Replicas may lag behind primary, reads which must see
+ * own writes have to run within read-write transaction.
+ *
+ * <p>Transaction manager obtains connection before read-only flag of transaction is exposed, so use
+ * {@link #of(DataSource, DataSource...)} which defers obtaining connection until first statement.
+ *
+ * <pre>
+ * &#64;Bean
+ * public DataSource dataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+ *     return ReadReplicaRoutingDataSource.of(primaryDataSource, replicaDataSource);
+ * }
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<String> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targetDataSources.put(key, replicas.get(i));
+            this.replicas.add(key);
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @param primary the primary data source
+     * @param replicas the replica data sources
+     * @return routing data source obtaining connection lazily
+     */
+    public static DataSource of(DataSource primary, DataSource... replicas) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, Arrays.asList(replicas)));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+}
@@ -1,25 +1,103 @@
 package com.javaquery.spring.service;
 
+import com.javaquery.spring.cache.EntityCache;
+import com.javaquery.spring.cache.EntityCacheEvictEvent;
+import com.javaquery.spring.data.CursorPageData;
+import com.javaquery.spring.data.KeysetCursor;
+import com.javaquery.spring.data.KeysetPageRequest;
 import com.javaquery.spring.data.PageData;
+import com.javaquery.spring.data.SliceData;
+import com.javaquery.util.cache.CacheLookup;
+import com.javaquery.util.cache.LruCache;
+import com.javaquery.util.concurrent.BatchLoader;
+import com.javaquery.util.concurrent.SingleFlight;
+import com.javaquery.util.logging.ActivityStatus;
+import com.javaquery.util.logging.LogBuilder;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.EntityType;
+import org.hibernate.Session;
+import org.springframework.beans.BeanUtils;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Abstract service class providing common CRUD operations.
  *
+ * <p>Read methods run in read-only transactions when service is a Spring bean, Hibernate skips flushing and dirty
+ * checking of entities they load and {@link com.javaquery.spring.datasource.ReadReplicaRoutingDataSource} routes
+ * them to replicas. Called within read-write transaction they join it and read from primary.
+ *
  * @author vicky.thakor
  * @since 1.0.0
  */
 public abstract class AbstractService<T, ID> implements IAbstractService<T, ID> {
 
+    /** IN-list size accepted by common databases, Oracle allows at most 1000 expressions. */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static final int DEFAULT_FETCH_SIZE = 500;
+    private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+
     protected final JpaRepository<T, ID> repository;
     protected final JpaSpecificationExecutor<T> specificationExecutor;
     protected final ApplicationEventPublisher applicationEventPublisher;
+    protected EntityManager entityManager;
+    private Class<T> entityType;
+    protected EntityCache<T, ID> entityCache;
+    private Function<T, ID> idFunction;
+    private SingleFlight<ID, T> findByIdFlight;
+    private SingleFlight<ID, Boolean> existsByIdFlight;
+    private LruCache<Object, Long> countCache;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     protected AbstractService(JpaRepository<T, ID> repository, ApplicationEventPublisher applicationEventPublisher) {
         this.repository = repository;
@@ -31,6 +109,60 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
         }
     }
 
+    /**
+     * Entity manager used by bulk operations, usually the shared one injected with {@code @PersistenceContext}.
+     *
+     * @param entityManager the entity manager
+     * @return the abstract service
+     */
+    protected AbstractService<T, ID> withEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        return this;
+    }
+
+    /**
+     * Cache entities of {@link #findById(Object, Supplier)}, cached ids are evicted on save and delete. Requires
+     * {@link #withEntityManager(EntityManager)}, entities are loaded by short-lived entity manager of their own so
+     * cached instances are detached and hold committed state, {@code findById} returns detached instance even on cache
+     * miss.
+     *
+     * @param entityCache the entity cache
+     * @return the abstract service
+     */
+    protected AbstractService<T, ID> withEntityCache(EntityCache<T, ID> entityCache) {
+        this.entityCache = entityCache;
+        return this;
+    }
+
+    /**
+     * Share in-flight queries of {@link #findById(Object, Supplier)}, {@link #existsById(Object, Supplier)} and
+     * {@link #findAllById(Iterable)} between concurrent callers asking for same ids, so expired cache entries or a
+     * cold start don't send the same query once per caller. Callers may receive entity loaded by persistence context
+     * of another thread, use it for read-only lookups.
+     *
+     * @param idFunction returns id of entity
+     * @return the abstract service
+     */
+    protected AbstractService<T, ID> withSingleFlight(Function<T, ID> idFunction) {
+        this.idFunction = idFunction;
+        this.findByIdFlight = new SingleFlight<>();
+        this.existsByIdFlight = new SingleFlight<>();
+        return this;
+    }
+
+    /**
+     * Cache totals of {@link #findAll(Specification, Pageable, Object)} by count key, so paging through same filter
+     * doesn't count on every page. Totals may be stale for time to live.
+     *
+     * @param maximumSize maximum number of cached totals
+     * @param timeToLive time to live of total, keep it short
+     * @return the abstract service
+     */
+    protected AbstractService<T, ID> withCountCache(int maximumSize, Duration timeToLive) {
+        this.countCache = new LruCache<>(maximumSize, timeToLive);
+        return this;
+    }
+
     /**
      * Saves a given entity.
      *
@@ -38,7 +170,11 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      * @return the saved entity
      */
     public T save(T entity) {
-        return repository.save(entity);
+        T saved = repository.save(entity);
+        if (entityCache != null) {
+            evictFromCache(Collections.singletonList(entityCache.idOf(saved)));
+        }
+        return saved;
     }
 
     /**
@@ -48,7 +184,275 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      * @return the saved entities
      */
     public <S extends T> List<S> saveAll(Iterable<S> entities) {
-        return repository.saveAll(entities);
+        List<S> saved = repository.saveAll(entities);
+        if (entityCache != null) {
+            List<ID> ids = new ArrayList<>(saved.size());
+            for (S entity : saved) {
+                ids.add(entityCache.idOf(entity));
+            }
+            evictFromCache(ids);
+        }
+        return saved;
+    }
+
+    /**
+     * Saves entities in chunks of {@link BulkWriteOptions#getChunkSize()}, the persistence context is flushed and
+     * cleared after every chunk so large imports run in constant memory. Entities are consumed lazily from iterable,
+     * saved entities and entities loaded before in same transaction are detached. Requires
+     * {@link #withEntityManager(EntityManager)} and a transaction, either of caller or one per chunk with
+     * {@link BulkWriteOptions#withTransactionPerChunk(PlatformTransactionManager)}. Progress and timing of every chunk
+     * is reported to {@link BulkWriteOptions#getProgressListener()} as {@link LogBuilder}.
+     *
+     * @param entities the entities to save
+     * @param options the bulk write options
+     * @return number of saved entities
+     */
+    public <S extends T> long saveAllInChunks(Iterable<S> entities, BulkWriteOptions options) {
+        requireEntityManager();
+        TransactionTemplate transactionTemplate = transactionTemplate(options);
+        long saved = 0;
+        int chunkNumber = 0;
+        List<S> chunk = new ArrayList<>(options.getChunkSize());
+        Iterator<S> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == options.getChunkSize() || !iterator.hasNext()) {
+                saved += executeChunk(
+                        BulkWriteOptions.BulkWriteAction.SAVE_ALL_IN_CHUNKS,
+                        ++chunkNumber,
+                        chunk.size(),
+                        saved,
+                        options,
+                        transactionTemplate,
+                        () -> {
+                            flushChunk(chunk, options);
+                            return chunk.size();
+                        });
+                chunk.clear();
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Deletes entities matching the given specification with criteria {@code DELETE} statements, without loading
+     * entities. Ids of matching rows are selected in chunks of {@link BulkWriteOptions#getChunkSize()} ordered by id
+     * and deleted with {@code DELETE ... WHERE id IN (...)}. Requires a transaction, either of caller or one per chunk
+     * with {@link BulkWriteOptions#withTransactionPerChunk(PlatformTransactionManager)}. Cascades and lifecycle
+     * callbacks of entities don't run and managed entities in persistence context are not updated.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param options the bulk write options
+     * @return number of deleted rows
+     */
+    public long deleteAll(Specification<T> specification, BulkWriteOptions options) {
+        return executeInChunks(
+                BulkWriteOptions.BulkWriteAction.DELETE_IN_CHUNKS,
+                BulkChangeEvent.Type.DELETE,
+                specification,
+                options,
+                this::deleteByIds);
+    }
+
+    /**
+     * Updates properties of entities matching the given specification with criteria {@code UPDATE} statements, in
+     * chunks like {@link #deleteAll(Specification, BulkWriteOptions)}. Version of versioned entities is not
+     * incremented.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param values new values by property name
+     * @param options the bulk write options
+     * @return number of updated rows
+     */
+    public long updateAll(Specification<T> specification, Map<String, ?> values, BulkWriteOptions options) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("values must not be empty");
+        }
+        return executeInChunks(
+                BulkWriteOptions.BulkWriteAction.UPDATE_IN_CHUNKS,
+                BulkChangeEvent.Type.UPDATE,
+                specification,
+                options,
+                ids -> updateByIds(ids, values));
+    }
+
+    private long executeInChunks(
+            BulkWriteOptions.BulkWriteAction action,
+            BulkChangeEvent.Type type,
+            Specification<T> specification,
+            BulkWriteOptions options,
+            ToIntFunction<List<ID>> statement) {
+        TransactionTemplate transactionTemplate = transactionTemplate(options);
+        long affected = 0;
+        int chunkNumber = 0;
+        ID lastId = null;
+        try {
+            while (true) {
+                // keyset on id visits every row once, also rows no longer matching specification after update
+                List<ID> ids = selectIds(specification, lastId, options.getChunkSize());
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+                affected += executeChunk(
+                        action, ++chunkNumber, ids.size(), affected, options, transactionTemplate, () -> {
+                            int rows = statement.applyAsInt(ids);
+                            if (entityCache != null) {
+                                evictFromCache(ids);
+                            }
+                            if (options.isPublishEvents() && applicationEventPublisher != null) {
+                                publishAfterCommit(new BulkChangeEvent(getEntityType(), type, ids));
+                            }
+                            return rows;
+                        });
+                if (ids.size() < options.getChunkSize()) {
+                    break;
+                }
+            }
+        } finally {
+            // chunks committed before a failure changed totals too
+            if (countCache != null && chunkNumber > 0) {
+                invalidateCountCache();
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Publish event after commit of current transaction, so listeners don't act on changes that roll back. Without
+     * transaction event is published immediately.
+     */
+    private void publishAfterCommit(Object event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applicationEventPublisher.publishEvent(event);
+                }
+            });
+        } else {
+            applicationEventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * Invalidate {@link #countCache} now and again after transaction completes, as totals counted within transaction
+     * may be cached before commit or rollback.
+     */
+    private void invalidateCountCache() {
+        LruCache<Object, Long> cache = this.countCache;
+        cache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<ID> selectIds(Specification<T> specification, ID after, int limit) {
+        CriteriaBuilder criteriaBuilder = getCriteriaBuilder();
+        EntityType<T> entity = entityManager.getMetamodel().entity(getEntityType());
+        CriteriaQuery<ID> query = criteriaBuilder.createQuery((Class<ID>) entity.getIdType().getJavaType());
+        Root<T> root = query.from(getEntityType());
+        Path<Comparable> idPath = root.get(getIdProperty());
+        query.select((Path) idPath);
+        List<Predicate> predicates = new ArrayList<>(2);
+        Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (after != null) {
+            predicates.add(criteriaBuilder.greaterThan(idPath, (Comparable) after));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(criteriaBuilder.asc(idPath));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private int deleteByIds(List<ID> ids) {
+        CriteriaDelete<T> delete = getCriteriaBuilder().createCriteriaDelete(getEntityType());
+        Root<T> root = delete.from(getEntityType());
+        delete.where(root.get(getIdProperty()).in(ids));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    private int updateByIds(List<ID> ids, Map<String, ?> values) {
+        CriteriaUpdate<T> update = getCriteriaBuilder().createCriteriaUpdate(getEntityType());
+        Root<T> root = update.from(getEntityType());
+        values.forEach(update::set);
+        update.where(root.get(getIdProperty()).in(ids));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private TransactionTemplate transactionTemplate(BulkWriteOptions options) {
+        if (options.getTransactionManager() == null) {
+            return null;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(options.getTransactionManager());
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    /**
+     * Executes work of chunk, in new transaction if template is given, and reports it to progress listener.
+     *
+     * @return number of processed entities reported by work
+     */
+    private int executeChunk(
+            BulkWriteOptions.BulkWriteAction defaultAction,
+            int chunkNumber,
+            int chunkSize,
+            long processed,
+            BulkWriteOptions options,
+            TransactionTemplate transactionTemplate,
+            IntSupplier work) {
+        LogBuilder logBuilder = new LogBuilder(options.getAction() != null ? options.getAction() : defaultAction);
+        logBuilder.put(BulkWriteOptions.CHUNK, chunkNumber);
+        logBuilder.put(BulkWriteOptions.CHUNK_SIZE, chunkSize);
+        logBuilder.setExecutionStartTime();
+        try {
+            int count = transactionTemplate == null
+                    ? work.getAsInt()
+                    : transactionTemplate.execute(status -> work.getAsInt());
+            logBuilder.put(BulkWriteOptions.PROCESSED, processed + count);
+            logBuilder.setMessage("Chunk " + chunkNumber + " processed " + count + " entities");
+            logBuilder.setActivityStatus(ActivityStatus.COMPLETED);
+            return count;
+        } catch (RuntimeException e) {
+            logBuilder.put(BulkWriteOptions.PROCESSED, processed);
+            logBuilder.setMessage("Failed to process chunk " + chunkNumber + ": " + e.getMessage());
+            logBuilder.setActivityStatus(ActivityStatus.FAILED);
+            throw e;
+        } finally {
+            logBuilder.setExecutionEndTime();
+            if (options.getProgressListener() != null) {
+                options.getProgressListener().accept(logBuilder);
+            }
+        }
+    }
+
+    private void flushChunk(List<? extends T> chunk, BulkWriteOptions options) {
+        Session session = null;
+        Integer jdbcBatchSize = null;
+        if (options.getJdbcBatchSize() > 0) {
+            session = entityManager.unwrap(Session.class);
+            jdbcBatchSize = session.getJdbcBatchSize();
+            session.setJdbcBatchSize(options.getJdbcBatchSize());
+        }
+        try {
+            saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            // later statements of caller's transaction keep batch size of session
+            if (session != null) {
+                session.setJdbcBatchSize(jdbcBatchSize);
+            }
+        }
     }
 
     /**
@@ -59,11 +463,40 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      * @param throwExceptionIfNotFound a supplier for the exception to be thrown if the entity is not found
      * @return the found entity or null if not found and no exception supplier is provided
      */
+    @Transactional(readOnly = true)
     public T findById(ID id, Supplier<? extends RuntimeException> throwExceptionIfNotFound) {
-        if (throwExceptionIfNotFound == null) {
-            return repository.findById(id).orElse(null);
+        T entity = entityCache != null ? entityCache.get(id, this::loadDetachedById) : loadById(id);
+        if (entity == null && throwExceptionIfNotFound != null) {
+            throw throwExceptionIfNotFound.get();
+        }
+        return entity;
+    }
+
+    private T loadById(ID id) {
+        if (findByIdFlight != null) {
+            return findByIdFlight.execute(id, key -> repository.findById(key).orElse(null));
+        }
+        return repository.findById(id).orElse(null);
+    }
+
+    private T loadDetachedById(ID id) {
+        if (findByIdFlight != null) {
+            return findByIdFlight.execute(id, this::findDetached);
+        }
+        return findDetached(id);
+    }
+
+    /**
+     * Entity loaded outside of caller's persistence context, so it's never managed by thread it is shared with nor
+     * holds changes of caller's transaction that may be rolled back.
+     */
+    private T findDetached(ID id) {
+        EntityManager detachedEntityManager = requireEntityManager().getEntityManagerFactory().createEntityManager();
+        try {
+            return detachedEntityManager.find(getEntityType(), id);
+        } finally {
+            detachedEntityManager.close();
         }
-        return repository.findById(id).orElseThrow(throwExceptionIfNotFound);
     }
 
     /**
@@ -77,6 +510,9 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
     public T deleteById(ID id, Supplier<? extends RuntimeException> throwExceptionIfNotFound) {
         T entity = findById(id, throwExceptionIfNotFound);
         repository.deleteById(id);
+        if (entityCache != null) {
+            evictFromCache(Collections.singletonList(id));
+        }
         return entity;
     }
 
@@ -87,6 +523,9 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      */
     public void delete(T entity) {
         repository.delete(entity);
+        if (entityCache != null) {
+            evictFromCache(Collections.singletonList(entityCache.idOf(entity)));
+        }
     }
 
     /**
@@ -97,8 +536,17 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      * @param throwExceptionIfNotFound a supplier for the exception to be thrown if the entity does not exist
      * @return true if the entity exists, false otherwise
      */
+    @Transactional(readOnly = true)
     public boolean existsById(ID id, Supplier<? extends RuntimeException> throwExceptionIfNotFound) {
-        boolean exists = repository.existsById(id);
+        CacheLookup<T> cached = entityCache == null ? CacheLookup.notCached() : entityCache.getIfPresent(id);
+        boolean exists;
+        if (cached.isCached()) {
+            exists = cached.isPresent();
+        } else if (existsByIdFlight != null) {
+            exists = existsByIdFlight.execute(id, repository::existsById);
+        } else {
+            exists = repository.existsById(id);
+        }
         if (!exists && throwExceptionIfNotFound != null) {
             throw throwExceptionIfNotFound.get();
         }
@@ -111,8 +559,63 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      * @param ids the IDs of the entities
      * @return the found entities
      */
+    @Transactional(readOnly = true)
     public List<T> findAllById(Iterable<ID> ids) {
-        return repository.findAllById(ids);
+        if (findByIdFlight == null) {
+            return repository.findAllById(ids);
+        }
+        List<ID> keys = new ArrayList<>();
+        ids.forEach(keys::add);
+        Map<ID, T> entities = findByIdFlight.executeAll(keys, this::loadAllById);
+        return new ArrayList<>(entities.values());
+    }
+
+    private Map<ID, T> loadAllById(List<ID> ids) {
+        List<T> entities = repository.findAllById(ids);
+        Map<ID, T> entitiesById = new HashMap<>();
+        for (T entity : entities) {
+            entitiesById.put(idOf(entity), entity);
+        }
+        return entitiesById;
+    }
+
+    /**
+     * Create loader collecting {@code findById} lookups, e.g. of GraphQL resolvers or fan-out loops, into
+     * {@code repository.findAllById} calls of at most {@link #DEFAULT_BATCH_SIZE} ids. Create one per request and
+     * call {@link BatchLoader#dispatch()} after registering ids, or configure
+     * {@link BatchLoader#withDispatchDelay(java.util.concurrent.ScheduledExecutorService, java.time.Duration)}; with
+     * delay ids are loaded on scheduler thread, outside of caller's transaction. Loaded entities are matched to ids
+     * using {@link javax.persistence.PersistenceUnitUtil#getIdentifier(Object)}, so it requires
+     * {@link #withEntityManager(EntityManager)} unless {@link #withSingleFlight(Function)} or
+     * {@link #withEntityCache(EntityCache)} is configured.
+     *
+     * @return the batch loader
+     */
+    public BatchLoader<ID, T> newBatchLoader() {
+        return newBatchLoader(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param maxBatchSize maximum number of ids per {@code repository.findAllById} call
+     * @return the batch loader
+     * @see #newBatchLoader()
+     */
+    public BatchLoader<ID, T> newBatchLoader(int maxBatchSize) {
+        return new BatchLoader<>(this::loadAllById, maxBatchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ID idOf(T entity) {
+        if (idFunction != null) {
+            return idFunction.apply(entity);
+        }
+        if (entityCache != null) {
+            return entityCache.idOf(entity);
+        }
+        return (ID) requireEntityManager()
+                .getEntityManagerFactory()
+                .getPersistenceUnitUtil()
+                .getIdentifier(entity);
     }
 
     /**
@@ -122,6 +625,7 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      * @param pageable the pagination information
      * @return a PageData object containing the paginated results
      */
+    @Transactional(readOnly = true)
     public PageData<T> findAll(Specification<T> specification, Pageable pageable) {
         if (specificationExecutor == null) {
             throw new UnsupportedOperationException("Repository does not support Specifications.");
@@ -137,6 +641,7 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      * @param specification the specification to filter entities
      * @return the found entities
      */
+    @Transactional(readOnly = true)
     public List<T> findAll(Specification<T> specification) {
         if (specificationExecutor == null) {
             throw new UnsupportedOperationException("Repository does not support Specifications.");
@@ -144,12 +649,406 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
         return specificationExecutor.findAll(specification);
     }
 
+    /**
+     * Streams entities matching the given specification through a forward-only cursor reading {@code fetchSize} rows
+     * per round trip. Every {@code fetchSize} entities the persistence context is flushed and cleared, so heap stays
+     * bounded no matter how many rows match; entities already passed down the stream are detached then. Cursor lives
+     * in transaction of caller, so it must be called within a transaction; open it with
+     * {@code @Transactional(readOnly = true)} to read from replica, or use {@link #forEach(Specification, Consumer)}.
+     * Close the stream with try-with-resources to release the cursor. Stateful stream operations like {@code sorted}
+     * buffer all entities and defeat the purpose, {@code iterator()} reads one entity ahead so it may be detached
+     * before it is consumed. MySQL streams rows only with fetch size {@link Integer#MIN_VALUE}.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param fetchSize the JDBC fetch size
+     * @return the stream of entities
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Stream<T> stream(Specification<T> specification, int fetchSize) {
+        if (entityManager == null) {
+            throw new UnsupportedOperationException("EntityManager is not configured.");
+        }
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(getEntityType());
+        Root<T> root = query.from(getEntityType());
+        Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Stream<T> results = entityManager
+                .createQuery(query)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+        int clearInterval = fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+        Spliterator<T> spliterator = new ClearingSpliterator<>(results.spliterator(), entityManager, clearInterval);
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+
+    /**
+     * Passes every entity matching the given specification to consumer, see {@link #stream(Specification, int)}.
+     * Entities are read-only unless called within read-write transaction.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param consumer the consumer of entities
+     * @return number of entities
+     */
+    @Transactional(readOnly = true)
+    public long forEach(Specification<T> specification, Consumer<? super T> consumer) {
+        AtomicLong count = new AtomicLong();
+        try (Stream<T> entities = stream(specification, DEFAULT_FETCH_SIZE)) {
+            entities.forEach(entity -> {
+                consumer.accept(entity);
+                count.incrementAndGet();
+            });
+        }
+        return count.get();
+    }
+
+    /**
+     * Finds entities matching the given specification using keyset pagination, rows after cursor are selected with
+     * {@code WHERE (sort, id) > (:sort, :id) ORDER BY sort, id}, so deep pages cost the same as first page when there
+     * is an index on sort property and id. Total is counted as configured by {@link KeysetPageRequest#getCountMode()}.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param request the keyset page request
+     * @return a CursorPageData object containing the page and cursor of next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPageData<T> findAll(Specification<T> specification, KeysetPageRequest request) {
+        if (entityManager == null) {
+            throw new UnsupportedOperationException("EntityManager is not configured.");
+        }
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(getEntityType());
+        Root<T> root = query.from(getEntityType());
+        Path<Object> sortPath = root.get(request.getSortProperty());
+        Path<Object> idPath = root.get(request.getIdProperty());
+
+        List<Predicate> predicates = new ArrayList<>(2);
+        Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (request.getCursor() != null) {
+            Object[] cursor = KeysetCursor.decode(request.getCursor(), sortPath.getJavaType(), idPath.getJavaType());
+            predicates.add(after(criteriaBuilder, sortPath, idPath, cursor, request));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        if (request.getDirection().isAscending()) {
+            query.orderBy(criteriaBuilder.asc(sortPath), criteriaBuilder.asc(idPath));
+        } else {
+            query.orderBy(criteriaBuilder.desc(sortPath), criteriaBuilder.desc(idPath));
+        }
+
+        // one extra row tells if there is next page
+        List<T> data = entityManager
+                .createQuery(query)
+                .setMaxResults(request.getPageSize() + 1)
+                .getResultList();
+        String nextCursor = null;
+        if (data.size() > request.getPageSize()) {
+            data = new ArrayList<>(data.subList(0, request.getPageSize()));
+            T last = data.get(data.size() - 1);
+            nextCursor = KeysetCursor.encode(
+                    attributeValue(last, request.getSortProperty()), attributeValue(last, request.getIdProperty()));
+        }
+
+        long totalElements = -1;
+        switch (request.getCountMode()) {
+            case FIRST_PAGE:
+                if (request.getCursor() == null) {
+                    totalElements = count(specification);
+                }
+                break;
+            case EVERY_PAGE:
+                totalElements = count(specification);
+                break;
+            case ESTIMATE:
+                if (request.getCountEstimator() == null) {
+                    throw new IllegalArgumentException("Count estimator is not configured.");
+                }
+                totalElements = request.getCountEstimator().getAsLong();
+                break;
+            default:
+                break;
+        }
+        boolean totalEstimated = request.getCountMode() == KeysetPageRequest.CountMode.ESTIMATE;
+        return new CursorPageData<>(totalElements, totalEstimated, request.getPageSize(), nextCursor, data);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate after(
+            CriteriaBuilder criteriaBuilder,
+            Path<Object> sortPath,
+            Path<Object> idPath,
+            Object[] cursor,
+            KeysetPageRequest request) {
+        Path<Comparable> sort = (Path) sortPath;
+        Path<Comparable> id = (Path) idPath;
+        boolean ascending = request.getDirection().isAscending();
+        Predicate idAfter = ascending
+                ? criteriaBuilder.greaterThan(id, (Comparable) cursor[1])
+                : criteriaBuilder.lessThan(id, (Comparable) cursor[1]);
+        if (request.getSortProperty().equals(request.getIdProperty())) {
+            return idAfter;
+        }
+        Predicate sortAfter = ascending
+                ? criteriaBuilder.greaterThan(sort, (Comparable) cursor[0])
+                : criteriaBuilder.lessThan(sort, (Comparable) cursor[0]);
+        return criteriaBuilder.or(sortAfter, criteriaBuilder.and(criteriaBuilder.equal(sort, cursor[0]), idAfter));
+    }
+
+    /**
+     * Counts like {@code SimpleJpaRepository.getCountQuery}, specification is applied before selecting count so
+     * distinct flag it sets on query counts distinct entities, and orders it adds are removed.
+     */
+    private long count(Specification<T> specification) {
+        CriteriaBuilder criteriaBuilder = getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(getEntityType());
+        Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+        query.orderBy(Collections.<Order>emptyList());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate toPredicate(
+            Specification<T> specification, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return specification == null ? null : specification.toPredicate(root, query, criteriaBuilder);
+    }
+
+    /**
+     * Finds entities matching the given specification with pagination, total is counted only when it can't be derived
+     * from the page and is cached by {@code countKey} when {@link #withCountCache(int, Duration)} is configured.
+     * Specifications are usually lambdas without equality, so count key describes the filter instead, e.g. request
+     * parameters of listing endpoint.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param pageable the pagination information
+     * @param countKey key of cached total, {@code null} to count without cache
+     * @return a PageData object containing the paginated results
+     */
+    @Transactional(readOnly = true)
+    public PageData<T> findAll(Specification<T> specification, Pageable pageable, Object countKey) {
+        return toPageData(query(specification, pageable, 0), specification, pageable, countKey);
+    }
+
+    private <R> PageData<R> toPageData(
+            List<R> data, Specification<T> specification, Pageable pageable, Object countKey) {
+        long totalElements;
+        if (pageable.isUnpaged()) {
+            totalElements = data.size();
+        } else if (data.size() < pageable.getPageSize() && (!data.isEmpty() || pageable.getOffset() == 0)) {
+            // last page, total is known without counting
+            totalElements = pageable.getOffset() + data.size();
+        } else if (countCache != null && countKey != null) {
+            totalElements = countCache.get(countKey, key -> count(specification));
+        } else {
+            totalElements = count(specification);
+        }
+        int pageSize = pageable.isPaged() ? pageable.getPageSize() : data.size();
+        int totalPages = pageSize == 0 ? 1 : (int) ((totalElements + pageSize - 1) / pageSize);
+        int currentPage = pageable.isPaged() ? pageable.getPageNumber() : 0;
+        return new PageData<>(totalElements, totalPages, currentPage, pageSize, data);
+    }
+
+    /**
+     * Finds entities matching the given specification without counting, one extra row is fetched to know whether
+     * there is next page.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param pageable the pagination information
+     * @return a SliceData object containing the page
+     */
+    @Transactional(readOnly = true)
+    public SliceData<T> findSlice(Specification<T> specification, Pageable pageable) {
+        return toSliceData(query(specification, pageable, 1), pageable);
+    }
+
+    private <R> SliceData<R> toSliceData(List<R> data, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceData<>(0, data.size(), false, data);
+        }
+        boolean hasNext = data.size() > pageable.getPageSize();
+        if (hasNext) {
+            data = new ArrayList<>(data.subList(0, pageable.getPageSize()));
+        }
+        return new SliceData<>(pageable.getPageNumber(), pageable.getPageSize(), hasNext, data);
+    }
+
+    /**
+     * Finds entity by its ID selecting only properties of projection, see {@link #findAllAs(Specification, Class)}.
+     *
+     * @param id the ID of the entity
+     * @param projection the interface or class-based DTO
+     * @param throwExceptionIfNotFound a supplier for the exception to be thrown if the entity is not found
+     * @return the found projection or null if not found and no exception supplier is provided
+     */
+    @Transactional(readOnly = true)
+    public <P> P findByIdAs(ID id, Class<P> projection, Supplier<? extends RuntimeException> throwExceptionIfNotFound) {
+        String idProperty = getIdProperty();
+        Specification<T> byId = (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get(idProperty), id);
+        List<P> result = query(byId, Pageable.unpaged(), 0, projection);
+        if (result.isEmpty() && throwExceptionIfNotFound != null) {
+            throw throwExceptionIfNotFound.get();
+        }
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * Finds entities matching the given specification selecting only properties of projection instead of hydrating
+     * managed entities, results are not tracked by persistence context. Closed interface projection is selected as
+     * tuple of its properties and backed by proxy, class-based DTO is created by its constructor whose parameter
+     * names are entity properties.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param projection the interface or class-based DTO
+     * @return the found projections
+     */
+    @Transactional(readOnly = true)
+    public <P> List<P> findAllAs(Specification<T> specification, Class<P> projection) {
+        return query(specification, Pageable.unpaged(), 0, projection);
+    }
+
+    /**
+     * Paged variant of {@link #findAllAs(Specification, Class)}, total is counted as in
+     * {@link #findAll(Specification, Pageable, Object)}.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param pageable the pagination information
+     * @param countKey key of cached total, {@code null} to count without cache
+     * @param projection the interface or class-based DTO
+     * @return a PageData object containing the paginated projections
+     */
+    @Transactional(readOnly = true)
+    public <P> PageData<P> findAllAs(
+            Specification<T> specification, Pageable pageable, Object countKey, Class<P> projection) {
+        return toPageData(query(specification, pageable, 0, projection), specification, pageable, countKey);
+    }
+
+    /**
+     * Slice variant of {@link #findAllAs(Specification, Class)}.
+     *
+     * @param specification the specification to filter entities, {@code null} for all entities
+     * @param pageable the pagination information
+     * @param projection the interface or class-based DTO
+     * @return a SliceData object containing the projections
+     */
+    @Transactional(readOnly = true)
+    public <P> SliceData<P> findSliceAs(Specification<T> specification, Pageable pageable, Class<P> projection) {
+        return toSliceData(query(specification, pageable, 1, projection), pageable);
+    }
+
+    private List<T> query(Specification<T> specification, Pageable pageable, int extraRows) {
+        CriteriaQuery<T> query = getCriteriaBuilder().createQuery(getEntityType());
+        Root<T> root = query.from(getEntityType());
+        return execute(query, root, specification, pageable, extraRows);
+    }
+
+    private <P> List<P> query(Specification<T> specification, Pageable pageable, int extraRows, Class<P> projection) {
+        CriteriaBuilder criteriaBuilder = getCriteriaBuilder();
+        if (projection.isInterface()) {
+            List<String> properties = new ArrayList<>();
+            for (PropertyDescriptor property :
+                    projectionFactory.getProjectionInformation(projection).getInputProperties()) {
+                properties.add(property.getName());
+            }
+            CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+            Root<T> root = query.from(getEntityType());
+            List<Selection<?>> selections = new ArrayList<>(properties.size());
+            for (String property : properties) {
+                selections.add(root.get(property).alias(property));
+            }
+            query.multiselect(selections);
+            List<Tuple> tuples = execute(query, root, specification, pageable, extraRows);
+            List<P> result = new ArrayList<>(tuples.size());
+            for (Tuple tuple : tuples) {
+                Map<String, Object> values = new HashMap<>();
+                for (String property : properties) {
+                    values.put(property, tuple.get(property));
+                }
+                result.add(projectionFactory.createProjection(projection, values));
+            }
+            return result;
+        }
+        CriteriaQuery<P> query = criteriaBuilder.createQuery(projection);
+        Root<T> root = query.from(getEntityType());
+        String[] properties = BeanUtils.getParameterNames(BeanUtils.getResolvableConstructor(projection));
+        Selection<?>[] selections = new Selection<?>[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            selections[i] = root.get(properties[i]);
+        }
+        query.select(criteriaBuilder.construct(projection, selections));
+        return execute(query, root, specification, pageable, extraRows);
+    }
+
+    private <R> List<R> execute(
+            CriteriaQuery<R> query, Root<T> root, Specification<T> specification, Pageable pageable, int extraRows) {
+        CriteriaBuilder criteriaBuilder = getCriteriaBuilder();
+        Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Sort sort = pageable.getSort();
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+        TypedQuery<R> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize() + extraRows);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private CriteriaBuilder getCriteriaBuilder() {
+        return requireEntityManager().getCriteriaBuilder();
+    }
+
+    private EntityManager requireEntityManager() {
+        if (entityManager == null) {
+            throw new UnsupportedOperationException("EntityManager is not configured.");
+        }
+        return entityManager;
+    }
+
+    /**
+     * Value of attribute read through member of metamodel, field of entity using field access needs no getter.
+     */
+    private Object attributeValue(T entity, String attributeName) {
+        Member member = requireEntityManager()
+                .getMetamodel()
+                .entity(getEntityType())
+                .getAttribute(attributeName)
+                .getJavaMember();
+        if (member instanceof Field) {
+            Field field = (Field) member;
+            ReflectionUtils.makeAccessible(field);
+            return ReflectionUtils.getField(field, entity);
+        }
+        if (member instanceof Method) {
+            Method method = (Method) member;
+            ReflectionUtils.makeAccessible(method);
+            return ReflectionUtils.invokeMethod(method, entity);
+        }
+        throw new UnsupportedOperationException("Attribute " + attributeName + " can't be read.");
+    }
+
+    private String getIdProperty() {
+        EntityType<T> entity = requireEntityManager().getMetamodel().entity(getEntityType());
+        return entity.getId(entity.getIdType().getJavaType()).getName();
+    }
+
     /**
      * Finds all entities with pagination.
      *
      * @param pageable the pagination information
      * @return a PageData object containing the paginated results
      */
+    @Transactional(readOnly = true)
     public PageData<T> findAll(Pageable pageable) {
         var page = repository.findAll(pageable);
         return new PageData<>(
@@ -161,7 +1060,88 @@ public abstract class AbstractService<T, ID> implements IAbstractService<T, ID>
      *
      * @return the total number of entities
      */
+    @Transactional(readOnly = true)
     public long count() {
         return repository.count();
     }
+
+    /**
+     * Evict ids from {@link #entityCache} now and again after transaction completes, as entities read within
+     * transaction may be cached before commit or rollback. {@link EntityCacheEvictEvent} is published after commit when
+     * {@link EntityCache#isPublishEvictions()}.
+     *
+     * @param ids the ids to evict
+     */
+    protected void evictFromCache(Collection<ID> ids) {
+        EntityCache<T, ID> cache = this.entityCache;
+        ids.forEach(cache::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(cache::evict);
+                    if (status == STATUS_COMMITTED) {
+                        publishEviction(cache, ids);
+                    }
+                }
+            });
+        } else {
+            publishEviction(cache, ids);
+        }
+    }
+
+    private void publishEviction(EntityCache<T, ID> cache, Collection<ID> ids) {
+        if (cache.isPublishEvictions() && applicationEventPublisher != null) {
+            applicationEventPublisher.publishEvent(new EntityCacheEvictEvent(cache.getEntityType(), ids));
+        }
+    }
+
+    /**
+     * Entity type resolved from type argument of subclass.
+     *
+     * @return the entity type
+     */
+    @SuppressWarnings("unchecked")
+    protected Class<T> getEntityType() {
+        if (entityType == null) {
+            Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), AbstractService.class);
+            if (typeArguments == null || typeArguments[0] == null) {
+                throw new UnsupportedOperationException(
+                        "Entity type of " + getClass().getName() + " can't be resolved.");
+            }
+            entityType = (Class<T>) typeArguments[0];
+        }
+        return entityType;
+    }
+
+    /**
+     * Flushes and clears persistence context after every {@code clearInterval} entities, after the entity went
+     * through downstream operations of the stream.
+     */
+    private static final class ClearingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Spliterator<T> delegate;
+        private final EntityManager entityManager;
+        private final int clearInterval;
+        private int count;
+
+        private ClearingSpliterator(Spliterator<T> delegate, EntityManager entityManager, int clearInterval) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.delegate = delegate;
+            this.entityManager = entityManager;
+            this.clearInterval = clearInterval;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (!delegate.tryAdvance(action)) {
+                return false;
+            }
+            if (++count == clearInterval) {
+                count = 0;
+                entityManager.flush();
+                entityManager.clear();
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.javaquery.spring.service;
+
+import java.util.List;
+
+/**
+ * Published once per chunk of {@link AbstractService#deleteAll} and {@link AbstractService#updateAll} when
+ * {@link BulkWriteOptions#withPublishEvents(boolean)} is enabled, instead of one event per entity.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class BulkChangeEvent {
+
+    public enum Type {
+        DELETE,
+        UPDATE
+    }
+
+    private final Class<?> entityType;
+    private final Type type;
+    private final List<?> ids;
+
+    public BulkChangeEvent(Class<?> entityType, Type type, List<?> ids) {
+        this.entityType = entityType;
+        this.type = type;
+        this.ids = ids;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public List<?> getIds() {
+        return ids;
+    }
+}
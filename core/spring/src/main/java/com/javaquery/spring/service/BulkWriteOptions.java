@@ -0,0 +1,134 @@
+package com.javaquery.spring.service;
+
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.LogBuilder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Options of {@link AbstractService#saveAllInChunks}, {@link AbstractService#deleteAll} and
+ * {@link AbstractService#updateAll}.
+ *
+ * <p>Inserts are sent as JDBC batches only when {@code hibernate.jdbc.batch_size} (or {@link #withJdbcBatchSize(int)})
+ * is set, {@code hibernate.order_inserts} is enabled and ids are not generated by {@code IDENTITY} columns.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class BulkWriteOptions {
+
+    public enum BulkWriteAction implements Action {
+        SAVE_ALL_IN_CHUNKS,
+        DELETE_IN_CHUNKS,
+        UPDATE_IN_CHUNKS
+    }
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    public static final String CHUNK = "chunk";
+    public static final String CHUNK_SIZE = "chunkSize";
+    public static final String PROCESSED = "processed";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkWriteOptions.class);
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int jdbcBatchSize;
+    private PlatformTransactionManager transactionManager;
+    private Action action;
+    private boolean publishEvents;
+    private Consumer<LogBuilder> progressListener = BulkWriteOptions::log;
+
+    /**
+     * @param chunkSize number of entities written together in one chunk
+     * @return the bulk write options
+     */
+    public BulkWriteOptions withChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @param jdbcBatchSize JDBC batch size of Hibernate session while writing, zero keeps configured size
+     * @return the bulk write options
+     */
+    public BulkWriteOptions withJdbcBatchSize(int jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+        return this;
+    }
+
+    /**
+     * Commit every chunk in its own new transaction, so chunks written before a failure stay committed.
+     *
+     * @param transactionManager the transaction manager
+     * @return the bulk write options
+     */
+    public BulkWriteOptions withTransactionPerChunk(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+        return this;
+    }
+
+    /**
+     * @param action action of {@link LogBuilder} created for every chunk, {@link BulkWriteAction} of operation by
+     *     default
+     * @return the bulk write options
+     */
+    public BulkWriteOptions withAction(Action action) {
+        this.action = action;
+        return this;
+    }
+
+    /**
+     * @param progressListener receives {@link LogBuilder} of every chunk, logged at info level by default
+     * @return the bulk write options
+     */
+    public BulkWriteOptions withProgressListener(Consumer<LogBuilder> progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    /**
+     * Publish one {@link BulkChangeEvent} per chunk of bulk delete and update, after commit of transaction the chunk
+     * ran in.
+     *
+     * @param publishEvents publish events
+     * @return the bulk write options
+     */
+    public BulkWriteOptions withPublishEvents(boolean publishEvents) {
+        this.publishEvents = publishEvents;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getJdbcBatchSize() {
+        return jdbcBatchSize;
+    }
+
+    public PlatformTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public boolean isPublishEvents() {
+        return publishEvents;
+    }
+
+    public Consumer<LogBuilder> getProgressListener() {
+        return progressListener;
+    }
+
+    private static void log(LogBuilder logBuilder) {
+        if (logBuilder.isSampled() && LOGGER.isInfoEnabled()) {
+            LOGGER.info("{} {}", logBuilder.getMessage(), logBuilder.getAttributes());
+        }
+    }
+}
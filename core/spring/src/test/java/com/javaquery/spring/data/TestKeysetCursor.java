@@ -0,0 +1,93 @@
+package com.javaquery.spring.data;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestKeysetCursor {
+
+    public enum Status {
+        ACTIVE
+    }
+
+    @Test
+    public void test_roundTrip() {
+        UUID uuid = UUID.randomUUID();
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 11, 14, 22, 13, 20, 123_456_000);
+        String cursor =
+                KeysetCursor.encode("name", 10L, new BigDecimal("1.50"), uuid, Status.ACTIVE, localDateTime, null);
+        Object[] values = KeysetCursor.decode(
+                cursor,
+                String.class,
+                Long.class,
+                BigDecimal.class,
+                UUID.class,
+                Status.class,
+                LocalDateTime.class,
+                Long.class);
+        Assertions.assertEquals(
+                Arrays.asList("name", 10L, new BigDecimal("1.50"), uuid, Status.ACTIVE, localDateTime, null),
+                Arrays.asList(values));
+    }
+
+    @Test
+    public void test_timestampOfDateAttribute() {
+        // JPA provider returns Timestamp for attribute declared as java.util.Date
+        Timestamp createdAt = new Timestamp(1_700_000_000_123L);
+        createdAt.setNanos(123_456_789);
+        Object[] values = KeysetCursor.decode(KeysetCursor.encode(createdAt, 1L), Date.class, Long.class);
+        Assertions.assertEquals(createdAt, values[0]);
+        Assertions.assertEquals(123_456_789, ((Timestamp) values[0]).getNanos());
+
+        values = KeysetCursor.decode(KeysetCursor.encode(createdAt), Timestamp.class);
+        Assertions.assertEquals(createdAt, values[0]);
+    }
+
+    @Test
+    public void test_dates() {
+        Date date = new Date(1_700_000_000_123L);
+        Assertions.assertEquals(date, KeysetCursor.decode(KeysetCursor.encode(date), Date.class)[0]);
+
+        java.sql.Date sqlDate = new java.sql.Date(1_699_920_000_000L);
+        Object decoded = KeysetCursor.decode(KeysetCursor.encode(sqlDate), java.sql.Date.class)[0];
+        Assertions.assertEquals(java.sql.Date.class, decoded.getClass());
+        Assertions.assertEquals(sqlDate.getTime(), ((java.sql.Date) decoded).getTime());
+    }
+
+    @Test
+    public void test_independentOfTimeZone() {
+        TimeZone timeZone = TimeZone.getDefault();
+        Timestamp createdAt = new Timestamp(1_700_000_000_123L);
+        String cursor;
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+            cursor = KeysetCursor.encode(createdAt);
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            Object[] values = KeysetCursor.decode(cursor, Date.class);
+            Assertions.assertEquals(createdAt.getTime(), ((Date) values[0]).getTime());
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+    }
+
+    @Test
+    public void test_invalidCursor() {
+        String cursor = KeysetCursor.encode(1L);
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> KeysetCursor.decode(cursor, Long.class, Long.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor, UUID.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor", Long.class));
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> KeysetCursor.decode(KeysetCursor.encode("x"), Object.class));
+    }
+}
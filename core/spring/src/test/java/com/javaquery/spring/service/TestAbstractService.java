@@ -0,0 +1,359 @@
+package com.javaquery.spring.service;
+
+import com.javaquery.spring.cache.EntityCache;
+import com.javaquery.spring.data.CursorPageData;
+import com.javaquery.spring.data.KeysetPageRequest;
+import com.javaquery.spring.data.PageData;
+import com.javaquery.spring.data.SliceData;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs against in-memory database without test transaction, so rows are committed and visible to entity managers and
+ * transactions opened by service.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TestAbstractService {
+
+    /** Field access entity without getters. */
+    @Entity(name = "Item")
+    public static class Item {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String name;
+        private int quantity;
+
+        @Temporal(TemporalType.TIMESTAMP)
+        private Date createdAt;
+
+        protected Item() {}
+
+        public Item(String name, int quantity, Date createdAt) {
+            this.name = name;
+            this.quantity = quantity;
+            this.createdAt = createdAt;
+        }
+
+        public Long id() {
+            return id;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public void rename(String name) {
+            this.name = name;
+        }
+    }
+
+    public interface ItemName {
+        String getName();
+    }
+
+    public static class ItemView {
+        private final String name;
+        private final int quantity;
+
+        public ItemView(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+
+    public interface ItemRepository extends JpaRepository<Item, Long>, JpaSpecificationExecutor<Item> {}
+
+    public static class ItemService extends AbstractService<Item, Long> {
+
+        public ItemService(
+                ItemRepository repository,
+                ApplicationEventPublisher applicationEventPublisher,
+                EntityManager entityManager) {
+            super(repository, applicationEventPublisher);
+            withEntityManager(entityManager);
+            withEntityCache(new EntityCache<>(Item.class, Item::id, 100, Duration.ofMinutes(10)));
+            withCountCache(100, Duration.ofMinutes(10));
+        }
+
+        public void evictAll() {
+            entityCache.evictAll();
+        }
+    }
+
+    public static class BulkChangeEvents {
+        private final List<BulkChangeEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        @EventListener
+        public void onBulkChange(BulkChangeEvent event) {
+            events.add(event);
+        }
+
+        public List<BulkChangeEvent> getEvents() {
+            return events;
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = TestAbstractService.class)
+    @EnableJpaRepositories(basePackageClasses = TestAbstractService.class, considerNestedRepositories = true)
+    static class Config {
+
+        @Bean
+        public ItemService itemService(
+                ItemRepository itemRepository,
+                ApplicationEventPublisher applicationEventPublisher,
+                EntityManagerFactory entityManagerFactory) {
+            return new ItemService(
+                    itemRepository,
+                    applicationEventPublisher,
+                    SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        }
+
+        @Bean
+        public BulkChangeEvents bulkChangeEvents() {
+            return new BulkChangeEvents();
+        }
+    }
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BulkChangeEvents bulkChangeEvents;
+
+    private TransactionTemplate transactionTemplate;
+    private List<Long> ids;
+
+    @BeforeEach
+    public void setUp() {
+        itemRepository.deleteAll();
+        itemService.evictAll();
+        bulkChangeEvents.getEvents().clear();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // same millisecond, created in reverse order of ids
+        long millis = 1_700_000_000_123L;
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Timestamp createdAt = new Timestamp(millis);
+            createdAt.setNanos(123_000_000 + (5 - i) * 1000);
+            items.add(new Item("item" + i, i, createdAt));
+        }
+        ids = itemRepository.saveAll(items).stream().map(Item::id).collect(Collectors.toList());
+    }
+
+    @Test
+    public void test_keysetPagination() {
+        List<Long> ascending = readAllPages(Sort.Direction.ASC);
+        List<Long> expected = new ArrayList<>(ids);
+        Collections.reverse(expected);
+        Assertions.assertEquals(expected, ascending);
+        Assertions.assertEquals(ids, readAllPages(Sort.Direction.DESC));
+
+        CursorPageData<Item> page = itemService.findAll(
+                null,
+                new KeysetPageRequest("createdAt", Sort.Direction.ASC, 2)
+                        .withCountMode(KeysetPageRequest.CountMode.FIRST_PAGE));
+        Assertions.assertEquals(5, page.getTotalElements());
+    }
+
+    private List<Long> readAllPages(Sort.Direction direction) {
+        List<Long> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageData<Item> page = itemService.findAll(
+                    null, new KeysetPageRequest("createdAt", direction, 2).withCursor(cursor));
+            page.getData().forEach(item -> read.add(item.id()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return read;
+    }
+
+    @Test
+    public void test_entityCacheHoldsCommittedDetachedEntity() {
+        Long id = ids.get(0);
+        transactionTemplate.execute(status -> {
+            itemRepository.findById(id).orElseThrow().rename("renamed");
+            entityManager.flush();
+
+            Item cached = itemService.findById(id, null);
+            Assertions.assertFalse(entityManager.contains(cached));
+            Assertions.assertEquals("item0", cached.name());
+            status.setRollbackOnly();
+            return null;
+        });
+        Item cached = itemService.findById(id, null);
+        Assertions.assertEquals("item0", cached.name());
+        Assertions.assertSame(cached, itemService.findById(id, null));
+
+        cached.rename("saved");
+        itemService.save(cached);
+        Assertions.assertEquals("saved", itemService.findById(id, null).name());
+    }
+
+    @Test
+    public void test_saveAllInChunks() {
+        List<Object> chunks = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new Item("chunk" + i, i, new Date()));
+        }
+        long saved = itemService.saveAllInChunks(
+                items,
+                new BulkWriteOptions()
+                        .withChunkSize(2)
+                        .withTransactionPerChunk(transactionManager)
+                        .withProgressListener(logBuilder -> chunks.add(logBuilder.get(BulkWriteOptions.CHUNK))));
+        Assertions.assertEquals(5, saved);
+        Assertions.assertEquals(List.of(1, 2, 3), chunks);
+        Assertions.assertEquals(10, itemRepository.count());
+    }
+
+    @Test
+    public void test_updateAndDeleteAll() {
+        Specification<Item> lowQuantity = (root, query, criteriaBuilder) ->
+                criteriaBuilder.lessThan(root.<Integer>get("quantity"), 3);
+        BulkWriteOptions options = new BulkWriteOptions()
+                .withChunkSize(2)
+                .withTransactionPerChunk(transactionManager)
+                .withPublishEvents(true);
+
+        Assertions.assertEquals(3, itemService.updateAll(lowQuantity, Map.of("quantity", 10), options));
+        Assertions.assertEquals(0, itemService.findAll(lowQuantity).size());
+        Assertions.assertEquals(2, bulkChangeEvents.getEvents().size());
+        Assertions.assertEquals(BulkChangeEvent.Type.UPDATE, bulkChangeEvents.getEvents().get(0).getType());
+
+        Specification<Item> highQuantity = (root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThanOrEqualTo(root.<Integer>get("quantity"), 10);
+        Assertions.assertEquals(3, itemService.deleteAll(highQuantity, options));
+        Assertions.assertEquals(2, itemRepository.count());
+    }
+
+    @Test
+    public void test_bulkEventsNotPublishedOnRollback() {
+        BulkWriteOptions options = new BulkWriteOptions().withPublishEvents(true);
+        transactionTemplate.execute(status -> {
+            itemService.deleteAll(null, options);
+            status.setRollbackOnly();
+            return null;
+        });
+        Assertions.assertEquals(5, itemRepository.count());
+        Assertions.assertTrue(bulkChangeEvents.getEvents().isEmpty());
+    }
+
+    @Test
+    public void test_stream() {
+        Assertions.assertThrows(IllegalTransactionStateException.class, () -> itemService.stream(null, 2));
+        transactionTemplate.setReadOnly(true);
+        long count = transactionTemplate.execute(status -> {
+            try (Stream<Item> items = itemService.stream(null, 2)) {
+                return items.count();
+            }
+        });
+        Assertions.assertEquals(5, count);
+
+        List<String> names = new ArrayList<>();
+        Assertions.assertEquals(5, itemService.forEach(null, item -> names.add(item.name())));
+        Assertions.assertEquals(5, names.size());
+    }
+
+    @Test
+    public void test_sliceAndCachedCount() {
+        SliceData<Item> slice = itemService.findSlice(null, PageRequest.of(0, 2, Sort.by("id")));
+        Assertions.assertTrue(slice.hasNext());
+        Assertions.assertEquals(ids.subList(0, 2), ids(slice.getData()));
+        Assertions.assertFalse(itemService.findSlice(null, PageRequest.of(2, 2, Sort.by("id"))).hasNext());
+
+        PageData<Item> page = itemService.findAll(null, PageRequest.of(0, 2, Sort.by("id")), "sliceAndCachedCount");
+        Assertions.assertEquals(5, page.getTotalElements());
+        Assertions.assertEquals(3, page.getTotalPages());
+
+        // total is cached by count key, bulk write through service invalidates it
+        itemRepository.save(new Item("uncounted", 1, new Date()));
+        page = itemService.findAll(null, PageRequest.of(0, 2, Sort.by("id")), "sliceAndCachedCount");
+        Assertions.assertEquals(5, page.getTotalElements());
+        transactionTemplate.execute(status -> itemService.updateAll(
+                null, Map.of("quantity", 1), new BulkWriteOptions().withChunkSize(10)));
+        page = itemService.findAll(null, PageRequest.of(0, 2, Sort.by("id")), "sliceAndCachedCount");
+        Assertions.assertEquals(6, page.getTotalElements());
+    }
+
+    @Test
+    public void test_projections() {
+        List<ItemName> names = itemService.findAllAs(null, ItemName.class);
+        Assertions.assertEquals(5, names.size());
+        Assertions.assertTrue(names.stream().anyMatch(name -> "item0".equals(name.getName())));
+
+        ItemView view = itemService.findByIdAs(ids.get(1), ItemView.class, null);
+        Assertions.assertEquals("item1", view.getName());
+        Assertions.assertEquals(1, view.getQuantity());
+        Assertions.assertNull(itemService.findByIdAs(-1L, ItemView.class, null));
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items.stream().map(Item::id).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,76 @@
+package com.javaquery.util.http;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link HttpStatusCode#resolve(int)} and {@link HttpStatusCode.Series#resolve(int)} with the linear
+ * scans they replaced. Status codes are a mix of common responses, late-declared codes and unknown codes.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HttpStatusCodeBenchmark {
+
+    private static final HttpStatusCode[] VALUES = HttpStatusCode.values();
+
+    private final int[] statusCodes = {200, 201, 204, 301, 304, 400, 401, 403, 404, 409, 429, 500, 502, 503, 511, 599};
+
+    @Benchmark
+    public void resolveLinearScan(Blackhole blackhole) {
+        for (int statusCode : statusCodes) {
+            blackhole.consume(linearScan(statusCode));
+        }
+    }
+
+    @Benchmark
+    public void resolveLookupTable(Blackhole blackhole) {
+        for (int statusCode : statusCodes) {
+            blackhole.consume(HttpStatusCode.resolve(statusCode));
+        }
+    }
+
+    @Benchmark
+    public void seriesResolveValues(Blackhole blackhole) {
+        for (int statusCode : statusCodes) {
+            blackhole.consume(seriesValues(statusCode));
+        }
+    }
+
+    @Benchmark
+    public void seriesResolveLookup(Blackhole blackhole) {
+        for (int statusCode : statusCodes) {
+            blackhole.consume(HttpStatusCode.Series.resolve(statusCode));
+        }
+    }
+
+    /** Previous implementation of {@link HttpStatusCode#resolve(int)}. */
+    private static HttpStatusCode linearScan(int statusCode) {
+        for (HttpStatusCode status : VALUES) {
+            if (status.value() == statusCode) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /** Previous implementation of {@link HttpStatusCode.Series#resolve(int)}, allocates array on every call. */
+    private static HttpStatusCode.Series seriesValues(int statusCode) {
+        int seriesCode = statusCode / 100;
+        for (HttpStatusCode.Series series : HttpStatusCode.Series.values()) {
+            if (series.value() == seriesCode) {
+                return series;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.javaquery.util.number;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link Numbers#roundDecimal(double, int)} and its bulk version with the {@link BigDecimal} rounding
+ * they replaced. Numbers look like prices and metrics of report generation: up to 6 integer digits and
+ * 4 to 8 decimal digits.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumbersBenchmark {
+
+    @Param({"2", "4"})
+    private int decimalPlaces;
+
+    private double[] numbers;
+    private double[] buffer;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        numbers = new double[1024];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = random.nextInt(1_000_000) + random.nextInt(100_000_000) / 1e8;
+        }
+        buffer = new double[numbers.length];
+    }
+
+    @Benchmark
+    public void roundDecimalBigDecimal(Blackhole blackhole) {
+        for (double number : numbers) {
+            blackhole.consume(BigDecimal.valueOf(number)
+                    .setScale(decimalPlaces, RoundingMode.HALF_UP)
+                    .doubleValue());
+        }
+    }
+
+    @Benchmark
+    public void roundDecimalPrimitive(Blackhole blackhole) {
+        for (double number : numbers) {
+            blackhole.consume(Numbers.roundDecimal(number, decimalPlaces));
+        }
+    }
+
+    @Benchmark
+    public double[] roundDecimalInPlace() {
+        System.arraycopy(numbers, 0, buffer, 0, numbers.length);
+        Numbers.roundDecimalInPlace(buffer, decimalPlaces);
+        return buffer;
+    }
+}
@@ -0,0 +1,70 @@
+package com.javaquery.util.number;
+
+import com.javaquery.util.Regex;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares single pass {@link Numbers#parseDouble(CharSequence, double)} with validating using
+ * {@link Regex#REGEX_NUMBER} followed by {@link Double#parseDouble(String)}, for CSV-like price fields.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumbersParseBenchmark {
+
+    private String[] values;
+    private byte[] line;
+    private int[] offsets;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        values = new String[1024];
+        StringBuilder csv = new StringBuilder();
+        offsets = new int[values.length + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1_000_000) + "." + random.nextInt(100);
+            offsets[i] = csv.length();
+            csv.append(values[i]).append(',');
+        }
+        offsets[values.length] = csv.length();
+        line = csv.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public void regexThenParseDouble(Blackhole blackhole) {
+        for (String value : values) {
+            if (value.matches(Regex.REGEX_NUMBER)) {
+                blackhole.consume(Double.parseDouble(value));
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseDoubleCharSequence(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(Numbers.parseDouble(value, Double.NaN));
+        }
+    }
+
+    @Benchmark
+    public void parseDoubleBytes(Blackhole blackhole) {
+        for (int i = 0; i < values.length; i++) {
+            int offset = offsets[i];
+            blackhole.consume(Numbers.parseDouble(line, offset, offsets[i + 1] - offset - 1, Double.NaN));
+        }
+    }
+}
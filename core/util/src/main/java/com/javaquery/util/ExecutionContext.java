@@ -1,14 +1,21 @@
 package com.javaquery.util;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.javaquery.util.logging.Action;
 import com.javaquery.util.logging.ActivityStatus;
+import com.javaquery.util.metrics.MetricsRegistry;
 import com.javaquery.util.time.Dates;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Contexts are created in large numbers so allocation is kept to minimum: {@code meta} is created on first
+ * write, {@code createdAt} and {@code retriesAttempted} are kept as primitives.
+ *
  * @author vicky.thakor
  * @since 1.0.0
  */
@@ -25,26 +32,23 @@ public class ExecutionContext<T, V> {
 
     private Map<String, Object> meta;
     private Integer maxRetries = 5;
-    private Integer retriesAttempted = 0;
-    private final Date createdAt;
+    private int retriesAttempted = 0;
+    private final long createdAt;
 
     public ExecutionContext() {
-        this.createdAt = Dates.current();
-        this.meta = new HashMap<>();
+        this.createdAt = Dates.currentTimeMillis();
     }
 
     public ExecutionContext(String requestId) {
         this.requestId = requestId;
-        this.meta = new HashMap<>();
-        this.createdAt = Dates.current();
+        this.createdAt = Dates.currentTimeMillis();
     }
 
     public ExecutionContext(String requestId, T referenceId, Action action) {
         this.requestId = requestId;
         this.referenceId = referenceId;
         this.action = action;
-        this.meta = new HashMap<>();
-        this.createdAt = Dates.current();
+        this.createdAt = Dates.currentTimeMillis();
     }
 
     public ExecutionContext(T referenceId, Action action) {
@@ -96,12 +100,31 @@ public class ExecutionContext<T, V> {
         return activityStatus;
     }
 
+    /**
+     * Sets activity status. Status is counted in {@link MetricsRegistry#global()} against action,
+     * terminal status also records the time elapsed since creation of this context, in millisecond resolution of
+     * {@link #getCreatedAtMillis()}.
+     *
+     * @param activityStatus the activity status
+     */
     public void setActivityStatus(ActivityStatus activityStatus) {
         this.activityStatus = activityStatus;
-    }
-
+        if (activityStatus != null && activityStatus.isTerminal()) {
+            long elapsedMillis = Math.max(0, Dates.currentTimeMillis() - createdAt);
+            MetricsRegistry.global().record(action, activityStatus, TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+        } else {
+            MetricsRegistry.global().increment(action, activityStatus);
+        }
+    }
+
+    /**
+     * Gets meta, empty immutable map is returned until meta is added using {@link #addMeta(String, Object)}
+     * or {@link #setMeta(Map)}, so reads (i.e. JSON serialization) don't allocate.
+     *
+     * @return the meta
+     */
     public Map<String, Object> getMeta() {
-        return meta;
+        return meta == null ? Collections.emptyMap() : meta;
     }
 
     public void setMeta(Map<String, Object> meta) {
@@ -109,7 +132,7 @@ public class ExecutionContext<T, V> {
     }
 
     public Object getMeta(String key, Object defaultValue) {
-        return meta.getOrDefault(key, defaultValue);
+        return meta == null ? defaultValue : meta.getOrDefault(key, defaultValue);
     }
 
     public String optString(String key, String defaultValue) {
@@ -117,7 +140,10 @@ public class ExecutionContext<T, V> {
     }
 
     public void addMeta(String key, Object value) {
-        this.meta.put(key, value);
+        if (meta == null) {
+            meta = new HashMap<>();
+        }
+        meta.put(key, value);
     }
 
     public Integer getMaxRetries() {
@@ -128,7 +154,23 @@ public class ExecutionContext<T, V> {
         return retriesAttempted;
     }
 
+    /**
+     * Gets created at, new {@link Date} is created on every call.
+     * Use {@link #getCreatedAtMillis()} to avoid allocation.
+     *
+     * @return the created at
+     */
     public Date getCreatedAt() {
+        return new Date(createdAt);
+    }
+
+    /**
+     * Gets created at in epoch milliseconds.
+     *
+     * @return the created at epoch milliseconds
+     */
+    @JsonIgnore
+    public long getCreatedAtMillis() {
         return createdAt;
     }
 
@@ -144,6 +186,6 @@ public class ExecutionContext<T, V> {
                 + action + ", maxRetries="
                 + maxRetries + ", retriesAttempted="
                 + retriesAttempted + ", createdAt="
-                + createdAt + '}';
+                + getCreatedAt() + '}';
     }
 }
@@ -1,5 +1,6 @@
 package com.javaquery.util;
 
+import com.javaquery.util.number.Numbers;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -25,7 +26,7 @@ public final class Regex {
      *     false}.
      */
     public static boolean isNumber(String value) {
-        return Objects.nonNull(value) && value.matches(Regex.REGEX_NUMBER);
+        return Numbers.isNumber(value);
     }
 
     /**
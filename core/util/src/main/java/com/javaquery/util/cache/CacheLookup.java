@@ -0,0 +1,57 @@
+package com.javaquery.util.cache;
+
+/**
+ * Result of {@link LruCache#getIfPresent(Object)}, tells key that is not cached apart from key cached as absent.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class CacheLookup<V> {
+
+    private static final CacheLookup<?> NOT_CACHED = new CacheLookup<>(false, null);
+    private static final CacheLookup<?> ABSENT = new CacheLookup<>(true, null);
+
+    private final boolean cached;
+    private final V value;
+
+    private CacheLookup(boolean cached, V value) {
+        this.cached = cached;
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> CacheLookup<V> notCached() {
+        return (CacheLookup<V>) NOT_CACHED;
+    }
+
+    /**
+     * @param value the cached value, {@code null} if absent value is cached
+     * @param <V> the type of value
+     * @return the cache lookup
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> CacheLookup<V> of(V value) {
+        return value == null ? (CacheLookup<V>) ABSENT : new CacheLookup<>(true, value);
+    }
+
+    /**
+     * @return {@code true} if key is cached, with value or as absent
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * @return {@code true} if key is cached with value
+     */
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    /**
+     * @return the cached value or {@code null} if key is not cached or cached as absent
+     */
+    public V getValue() {
+        return value;
+    }
+}
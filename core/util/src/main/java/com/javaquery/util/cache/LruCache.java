@@ -0,0 +1,212 @@
+package com.javaquery.util.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache with least-recently-used eviction and time to live. Keys are spread over segments,
+ * each segment is an access-ordered {@link LinkedHashMap} guarded by its own lock, so readers of different keys
+ * rarely wait for each other.
+ *
+ * <p>With {@link #withNegativeTimeToLive(Duration)} absent values (loader returned {@code null}) are cached too, so
+ * repeated lookups of missing keys don't reach the source either.
+ *
+ * <pre>
+ * LruCache&lt;Long, Country&gt; countries = new LruCache&lt;Long, Country&gt;(10_000, Duration.ofMinutes(10))
+ *         .withNegativeTimeToLive(Duration.ofSeconds(30));
+ * Country country = countries.get(id, key -&gt; repository.findById(key).orElse(null));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class LruCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long timeToLiveNanos;
+    private volatile long negativeTimeToLiveNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize maximum number of entries
+     * @param timeToLive time to live of entry after it is stored
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public LruCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive");
+        }
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(capacity);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    /**
+     * Cache absent values for given time, usually shorter than time to live of values.
+     *
+     * @param negativeTimeToLive time to live of absent value, zero disables negative caching
+     * @return the lru cache
+     */
+    public LruCache<K, V> withNegativeTimeToLive(Duration negativeTimeToLive) {
+        if (negativeTimeToLive.isNegative()) {
+            throw new IllegalArgumentException("negativeTimeToLive must not be negative");
+        }
+        this.negativeTimeToLiveNanos = negativeTimeToLive.toNanos();
+        return this;
+    }
+
+    /**
+     * Get cached value.
+     *
+     * @param key the key
+     * @return the cache lookup, {@link CacheLookup#isCached()} is {@code true} for absent value cached too
+     */
+    public CacheLookup<V> getIfPresent(K key) {
+        Segment<K, V> segment = segment(key);
+        CacheEntry<V> entry;
+        synchronized (segment) {
+            entry = segment.entries.get(key);
+            if (entry != null && entry.expiresAtNanos - System.nanoTime() <= 0) {
+                segment.entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return CacheLookup.notCached();
+        }
+        hits.increment();
+        return entry.lookup;
+    }
+
+    /**
+     * Get cached value or load it. Loader is called outside of lock, concurrent misses of same key may load it more
+     * than once. Loaded value is not stored if key was invalidated while loading.
+     *
+     * @param key the key
+     * @param loader the loader, returns {@code null} if value is absent
+     * @return the value or {@code null} if absent
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        CacheLookup<V> cached = getIfPresent(key);
+        if (cached.isCached()) {
+            return cached.getValue();
+        }
+        Segment<K, V> segment = segment(key);
+        long invalidations;
+        synchronized (segment) {
+            invalidations = segment.invalidations;
+        }
+        V value = loader.apply(key);
+        synchronized (segment) {
+            if (segment.invalidations == invalidations) {
+                store(segment, key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Store value, {@code null} value is stored as absent if negative caching is enabled.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) {
+            store(segment, key, value);
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) {
+            segment.entries.remove(key);
+            segment.invalidations++;
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.invalidations++;
+            }
+        }
+    }
+
+    /**
+     * @return number of entries, including expired entries not yet removed
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private void store(Segment<K, V> segment, K key, V value) {
+        long timeToLive = value == null ? negativeTimeToLiveNanos : timeToLiveNanos;
+        if (timeToLive == 0) {
+            segment.entries.remove(key);
+            return;
+        }
+        segment.entries.put(key, new CacheEntry<>(CacheLookup.of(value), System.nanoTime() + timeToLive));
+    }
+
+    private Segment<K, V> segment(K key) {
+        int hash = Objects.hashCode(key);
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private static final class CacheEntry<V> {
+        private final CacheLookup<V> lookup;
+        private final long expiresAtNanos;
+
+        private CacheEntry(CacheLookup<V> lookup, long expiresAtNanos) {
+            this.lookup = lookup;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final Map<K, CacheEntry<V>> entries;
+        private long invalidations;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+}
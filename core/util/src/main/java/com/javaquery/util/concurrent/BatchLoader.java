@@ -0,0 +1,162 @@
+package com.javaquery.util.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects keys requested one by one and loads them together, turning N lookups into one batch call per
+ * {@code maxBatchSize} keys. Same key requested twice before dispatch shares one future.
+ *
+ * <p>Keys are loaded when {@link #dispatch()} is called, for example once per request after resolvers registered their
+ * keys, when {@code maxBatchSize} keys are pending, or after delay configured with
+ * {@link #withDispatchDelay(ScheduledExecutorService, Duration)}.
+ *
+ * <pre>
+ * BatchLoader&lt;Long, User&gt; users = new BatchLoader&lt;&gt;(ids -&gt; loadUsersById(ids), 1000);
+ * CompletableFuture&lt;User&gt; author = users.load(post.getAuthorId());
+ * CompletableFuture&lt;User&gt; editor = users.load(post.getEditorId());
+ * users.dispatch();
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<? super List<K>, ? extends Map<? extends K, ? extends V>> batchFunction;
+    private final int maxBatchSize;
+    private ScheduledExecutorService scheduler;
+    private long dispatchDelayNanos;
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+
+    /**
+     * @param batchFunction loads values of keys, keys missing in returned map are completed with {@code null}
+     * @param maxBatchSize maximum number of keys per call of batch function, e.g. IN-list limit of database
+     */
+    public BatchLoader(
+            Function<? super List<K>, ? extends Map<? extends K, ? extends V>> batchFunction, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.batchFunction = Objects.requireNonNull(batchFunction);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Dispatch pending keys on scheduler after delay from first key of batch, batch function runs on scheduler.
+     *
+     * @param scheduler the scheduler
+     * @param dispatchDelay delay to collect keys
+     * @return the batch loader
+     */
+    public BatchLoader<K, V> withDispatchDelay(ScheduledExecutorService scheduler, Duration dispatchDelay) {
+        this.scheduler = Objects.requireNonNull(scheduler);
+        this.dispatchDelayNanos = dispatchDelay.toNanos();
+        return this;
+    }
+
+    /**
+     * Request value of key.
+     *
+     * @param key the key
+     * @return future completed with value or {@code null} if absent once batch is loaded
+     */
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key);
+        Map<K, CompletableFuture<V>> batch = null;
+        boolean schedule = false;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            future = pending.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize) {
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            } else {
+                schedule = pending.size() == 1 && scheduler != null;
+            }
+        }
+        if (batch != null) {
+            execute(batch);
+        } else if (schedule) {
+            scheduler.schedule(this::dispatch, dispatchDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        return future;
+    }
+
+    /**
+     * Request values of keys.
+     *
+     * @param keys the keys
+     * @return future completed with values of keys present, in order of keys
+     */
+    public CompletableFuture<Map<K, V>> loadAll(Collection<? extends K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        for (K key : keys) {
+            futures.computeIfAbsent(key, this::load);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    Map<K, V> values = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> {
+                        V value = future.join();
+                        if (value != null) {
+                            values.put(key, value);
+                        }
+                    });
+                    return values;
+                });
+    }
+
+    /**
+     * Load pending keys on calling thread, in chunks of {@code maxBatchSize}.
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        execute(batch);
+    }
+
+    /**
+     * @return number of keys waiting for dispatch
+     */
+    public synchronized int pending() {
+        return pending.size();
+    }
+
+    private void execute(Map<K, CompletableFuture<V>> batch) {
+        List<K> keys = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < keys.size(); from += maxBatchSize) {
+            List<K> chunk = keys.subList(from, Math.min(keys.size(), from + maxBatchSize));
+            try {
+                Map<? extends K, ? extends V> values = batchFunction.apply(chunk);
+                for (K key : chunk) {
+                    batch.get(key).complete(values.get(key));
+                }
+            } catch (RuntimeException | Error e) {
+                for (K key : chunk) {
+                    batch.get(key).completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.javaquery.util.concurrent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExecutorService} that runs every task with {@link com.javaquery.util.ExecutionContext} of the thread
+ * that submitted it. {@code submit} and {@code invoke*} go through {@link #execute(Runnable)} so context is
+ * captured once per task.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+final class ContextPropagatingExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    ContextPropagatingExecutorService(ExecutorService delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(ExecutionContextHolder.wrap(command));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,139 @@
+package com.javaquery.util.concurrent;
+
+import com.javaquery.util.ExecutableFunction;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Collects {@link ExecutableFunction}s and executes them together on an {@link Executor}, so side effects like
+ * cache invalidation or notifications leave the request thread.
+ *
+ * <p>Functions deferred with same key are coalesced, only the first one is executed. Every function runs with
+ * {@link com.javaquery.util.ExecutionContext} of the thread that deferred it.
+ *
+ * <pre>
+ * ExecutableFunctionBatch batch = new ExecutableFunctionBatch(executor);
+ * batch.defer("user:" + userId, () -&gt; cache.evict(userId));
+ * batch.defer(() -&gt; notifier.send(event));
+ * batch.executeAfter(commitFuture);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class ExecutableFunctionBatch {
+
+    private final Executor executor;
+    private Map<Object, Runnable> tasks = new LinkedHashMap<>();
+
+    public ExecutableFunctionBatch(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Defer function until batch is executed.
+     *
+     * @param executableFunction the executable function
+     * @return the executable function batch
+     */
+    public ExecutableFunctionBatch defer(ExecutableFunction executableFunction) {
+        return defer(new Object(), executableFunction);
+    }
+
+    /**
+     * Defer function until batch is executed, ignored if function with same key is already deferred.
+     *
+     * @param key the key
+     * @param executableFunction the executable function
+     * @return the executable function batch
+     */
+    public ExecutableFunctionBatch defer(Object key, ExecutableFunction executableFunction) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(executableFunction);
+        synchronized (this) {
+            if (!tasks.containsKey(key)) {
+                tasks.put(key, ExecutionContextHolder.wrap(executableFunction::execute));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return number of deferred functions
+     */
+    public synchronized int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Drop all deferred functions, for example when transaction is rolled back.
+     */
+    public synchronized void discard() {
+        tasks = new LinkedHashMap<>();
+    }
+
+    /**
+     * Execute deferred functions in parallel. Functions deferred afterwards belong to the next execution. Functions
+     * the executor rejects are deferred again, ahead of functions deferred since.
+     *
+     * @return future completed when all functions are executed, completed exceptionally if any of them failed or
+     *     executor rejected them
+     */
+    public CompletableFuture<Void> execute() {
+        return execute(drain());
+    }
+
+    /**
+     * Execute functions deferred so far once stage completes successfully (after-commit), discard them if stage fails.
+     * Functions deferred after this call are not affected by the stage.
+     *
+     * @param stage the stage, for example transaction commit
+     * @return future completed when all functions are executed
+     */
+    public CompletableFuture<Void> executeAfter(CompletionStage<?> stage) {
+        Map<Object, Runnable> batch = drain();
+        return stage.toCompletableFuture().handle((value, throwable) -> throwable).thenCompose(throwable -> {
+            if (throwable != null) {
+                return CompletableFuture.failedFuture(throwable);
+            }
+            return execute(batch);
+        });
+    }
+
+    private synchronized Map<Object, Runnable> drain() {
+        Map<Object, Runnable> batch = tasks;
+        tasks = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private CompletableFuture<Void> execute(Map<Object, Runnable> batch) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+        Iterator<Map.Entry<Object, Runnable>> iterator = batch.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Runnable> task = iterator.next();
+            try {
+                futures.add(CompletableFuture.runAsync(task.getValue(), executor));
+            } catch (RuntimeException e) {
+                Map<Object, Runnable> rejected = new LinkedHashMap<>();
+                rejected.put(task.getKey(), task.getValue());
+                iterator.forEachRemaining(rest -> rejected.put(rest.getKey(), rest.getValue()));
+                requeue(rejected);
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private synchronized void requeue(Map<Object, Runnable> rejected) {
+        // earlier deferred function wins over later one with same key
+        tasks.forEach(rejected::putIfAbsent);
+        tasks = rejected;
+    }
+}
@@ -0,0 +1,205 @@
+package com.javaquery.util.concurrent;
+
+import com.javaquery.util.ExecutionContext;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds {@link ExecutionContext} of current thread and propagates it across thread pools and
+ * {@link java.util.concurrent.CompletableFuture} chains.
+ *
+ * <p>Tasks wrapped using {@link #wrap(Runnable)}, {@link #wrap(Callable)}, {@link #wrapSupplier(Supplier)} and
+ * {@link #wrapFunction(Function)} capture the context of the thread that
+ * wraps them and restore it on the thread that runs them. Capture is a single field read and restore puts the
+ * previous context back, no objects are created per hop other than the wrapper itself.
+ *
+ * <pre>
+ * ExecutorService executor = ExecutionContextHolder.wrap(Executors.newFixedThreadPool(10));
+ * CompletableFuture.supplyAsync(supplier, executor).thenApplyAsync(function, executor);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class ExecutionContextHolder {
+
+    public enum Mode {
+        /** Context is visible to current thread only. */
+        THREAD_LOCAL,
+        /** Context is also inherited by threads created from current thread. */
+        INHERITABLE_THREAD_LOCAL
+    }
+
+    private static volatile ThreadLocal<ExecutionContext<?, ?>> holder = new ThreadLocal<>();
+
+    private ExecutionContextHolder() {}
+
+    /**
+     * Change holder mode. Contexts already set are discarded so call it once, at application startup.
+     *
+     * @param mode the mode
+     */
+    public static void setMode(Mode mode) {
+        holder = mode == Mode.INHERITABLE_THREAD_LOCAL ? new InheritableThreadLocal<>() : new ThreadLocal<>();
+    }
+
+    /**
+     * Gets context of current thread.
+     *
+     * @param <T> the type of reference id
+     * @param <V> the type of user context
+     * @return the execution context or {@code null} if not set
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> ExecutionContext<T, V> get() {
+        return (ExecutionContext<T, V>) holder.get();
+    }
+
+    /**
+     * Sets context of current thread, {@code null} clears the context.
+     *
+     * @param executionContext the execution context
+     */
+    public static void set(ExecutionContext<?, ?> executionContext) {
+        if (executionContext == null) {
+            holder.remove();
+        } else {
+            holder.set(executionContext);
+        }
+    }
+
+    /**
+     * Clears context of current thread.
+     */
+    public static void clear() {
+        holder.remove();
+    }
+
+    /**
+     * Run task with given context bound to current thread, previous context is restored afterwards.
+     *
+     * @param executionContext the execution context
+     * @param runnable the task
+     */
+    public static void runWith(ExecutionContext<?, ?> executionContext, Runnable runnable) {
+        ExecutionContext<?, ?> previous = holder.get();
+        set(executionContext);
+        try {
+            runnable.run();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * Call task with given context bound to current thread, previous context is restored afterwards.
+     *
+     * @param executionContext the execution context
+     * @param callable the task
+     * @param <R> the type of result
+     * @return the result of task
+     * @throws Exception if task throws exception
+     */
+    public static <R> R callWith(ExecutionContext<?, ?> executionContext, Callable<R> callable) throws Exception {
+        ExecutionContext<?, ?> previous = holder.get();
+        set(executionContext);
+        try {
+            return callable.call();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * Decorate task to run with context of current thread.
+     *
+     * @param runnable the task
+     * @return the decorated task
+     */
+    public static Runnable wrap(Runnable runnable) {
+        Objects.requireNonNull(runnable);
+        ExecutionContext<?, ?> captured = holder.get();
+        return () -> runWith(captured, runnable);
+    }
+
+    /**
+     * Decorate task to run with context of current thread.
+     *
+     * @param callable the task
+     * @param <R> the type of result
+     * @return the decorated task
+     */
+    public static <R> Callable<R> wrap(Callable<R> callable) {
+        Objects.requireNonNull(callable);
+        ExecutionContext<?, ?> captured = holder.get();
+        return () -> callWith(captured, callable);
+    }
+
+    /**
+     * Decorate supplier to run with context of current thread.
+     *
+     * @param supplier the supplier
+     * @param <R> the type of result
+     * @return the decorated supplier
+     */
+    public static <R> Supplier<R> wrapSupplier(Supplier<R> supplier) {
+        Objects.requireNonNull(supplier);
+        ExecutionContext<?, ?> captured = holder.get();
+        return () -> {
+            ExecutionContext<?, ?> previous = holder.get();
+            set(captured);
+            try {
+                return supplier.get();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * Decorate function to run with context of current thread.
+     *
+     * @param function the function
+     * @param <I> the type of input
+     * @param <R> the type of result
+     * @return the decorated function
+     */
+    public static <I, R> Function<I, R> wrapFunction(Function<I, R> function) {
+        Objects.requireNonNull(function);
+        ExecutionContext<?, ?> captured = holder.get();
+        return input -> {
+            ExecutionContext<?, ?> previous = holder.get();
+            set(captured);
+            try {
+                return function.apply(input);
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * Decorate executor so every task runs with context of the thread that submitted it.
+     *
+     * @param executor the executor
+     * @return the decorated executor
+     */
+    public static Executor wrap(Executor executor) {
+        Objects.requireNonNull(executor);
+        return command -> executor.execute(wrap(command));
+    }
+
+    /**
+     * Decorate executor service so every task runs with context of the thread that submitted it.
+     *
+     * @param executorService the executor service
+     * @return the decorated executor service
+     */
+    public static ExecutorService wrap(ExecutorService executorService) {
+        return new ContextPropagatingExecutorService(executorService);
+    }
+}
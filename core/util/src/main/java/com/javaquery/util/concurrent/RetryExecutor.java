@@ -0,0 +1,242 @@
+package com.javaquery.util.concurrent;
+
+import com.javaquery.util.ExecutionContext;
+import com.javaquery.util.logging.ActivityStatus;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Retries task according to {@link ExecutionContext#getMaxRetries()} and
+ * {@link ExecutionContext#getRetriesAttempted()}, {@code null} max retries means task is not retried.
+ *
+ * <p>Retries are scheduled on {@link ScheduledExecutorService} with exponential backoff and jitter, no thread
+ * sleeps while waiting for next attempt. Attempts run on separate {@link Executor}, so blocking tasks don't hold up
+ * scheduler threads firing other retries. Every attempt runs with the context bound to {@link ExecutionContextHolder}.
+ * Activity status of context is updated as it goes: {@link ActivityStatus#STARTED} on first attempt,
+ * {@link ActivityStatus#PROCESSING_WITH_ERROR} when retry is scheduled, {@link ActivityStatus#COMPLETED} or
+ * {@link ActivityStatus#FAILED} at the end.
+ *
+ * <pre>
+ * RetryExecutor retryExecutor = new RetryExecutor(scheduler, executor)
+ *         .withBackoff(Duration.ofMillis(100), Duration.ofSeconds(10), 2)
+ *         .retryOn(e -&gt; e instanceof IOException);
+ * CompletableFuture&lt;String&gt; result = retryExecutor.execute(executionContext, () -&gt; client.call());
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class RetryExecutor {
+
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private long initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private long maxDelayNanos = TimeUnit.SECONDS.toNanos(30);
+    private double multiplier = 2;
+    private double jitter = 0.5;
+    private Predicate<Throwable> retryOn = throwable -> true;
+
+    /**
+     * @param scheduler the scheduler, only used to wait for backoff delay
+     * @param executor the executor running attempts
+     */
+    public RetryExecutor(ScheduledExecutorService scheduler, Executor executor) {
+        this.scheduler = Objects.requireNonNull(scheduler);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Delay before retry {@code n} is {@code initialDelay * multiplier^(n - 1)}, capped at {@code maxDelay}.
+     *
+     * @param initialDelay delay before first retry, must not be negative
+     * @param maxDelay maximum delay, must not be negative
+     * @param multiplier multiplier applied on every retry, must be at least 1
+     * @return the retry executor
+     */
+    public RetryExecutor withBackoff(Duration initialDelay, Duration maxDelay, double multiplier) {
+        if (initialDelay.isNegative() || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("multiplier must be at least 1");
+        }
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.multiplier = multiplier;
+        return this;
+    }
+
+    /**
+     * Randomly reduce every delay by up to given fraction, so clients failing together don't retry together.
+     *
+     * @param jitter fraction between 0 (no jitter) and 1
+     * @return the retry executor
+     */
+    public RetryExecutor withJitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1");
+        }
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * Retry only failures matching predicate, others fail immediately. By default every failure is retried.
+     *
+     * @param retryOn the predicate
+     * @return the retry executor
+     */
+    public RetryExecutor retryOn(Predicate<Throwable> retryOn) {
+        this.retryOn = Objects.requireNonNull(retryOn);
+        return this;
+    }
+
+    /**
+     * Execute task on executor and retry on failure.
+     *
+     * @param executionContext the execution context holding retry state
+     * @param task the task
+     * @param <R> the type of result
+     * @return future completed with result of task or last failure when retries are exhausted
+     */
+    public <R> CompletableFuture<R> execute(ExecutionContext<?, ?> executionContext, Callable<R> task) {
+        Objects.requireNonNull(task);
+        return executeAsync(executionContext, () -> {
+            try {
+                return CompletableFuture.completedFuture(task.call());
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        });
+    }
+
+    /**
+     * Execute asynchronous task and retry when returned stage fails.
+     *
+     * @param executionContext the execution context holding retry state
+     * @param task the task, called once per attempt, {@code null} stage or exception thrown by task fails the
+     *     attempt
+     * @param <R> the type of result
+     * @return future completed with result of task or last failure when retries are exhausted
+     */
+    public <R> CompletableFuture<R> executeAsync(
+            ExecutionContext<?, ?> executionContext, Supplier<? extends CompletionStage<R>> task) {
+        Objects.requireNonNull(executionContext);
+        Objects.requireNonNull(task);
+        CompletableFuture<R> result = new CompletableFuture<>();
+        executionContext.setActivityStatus(ActivityStatus.STARTED);
+        dispatch(executionContext, task, result);
+        return result;
+    }
+
+    private <R> void dispatch(
+            ExecutionContext<?, ?> executionContext,
+            Supplier<? extends CompletionStage<R>> task,
+            CompletableFuture<R> result) {
+        try {
+            executor.execute(() -> attempt(executionContext, task, result));
+        } catch (RuntimeException e) {
+            fail(executionContext, result, e);
+        }
+    }
+
+    private <R> void attempt(
+            ExecutionContext<?, ?> executionContext,
+            Supplier<? extends CompletionStage<R>> task,
+            CompletableFuture<R> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletionStage<R> stage;
+        try {
+            stage = ExecutionContextHolder.callWith(executionContext, task::get);
+        } catch (Exception e) {
+            onFailure(executionContext, task, result, e);
+            return;
+        }
+        if (stage == null) {
+            onFailure(executionContext, task, result, new NullPointerException("Task returned null stage"));
+            return;
+        }
+        stage.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                executionContext.setActivityStatus(ActivityStatus.COMPLETED);
+                result.complete(value);
+            } else {
+                onFailure(executionContext, task, result, throwable);
+            }
+        });
+    }
+
+    private <R> void onFailure(
+            ExecutionContext<?, ?> executionContext,
+            Supplier<? extends CompletionStage<R>> task,
+            CompletableFuture<R> result,
+            Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        try {
+            Integer maxRetries = executionContext.getMaxRetries();
+            if (result.isDone()
+                    || maxRetries == null
+                    || executionContext.getRetriesAttempted() >= maxRetries
+                    || !retryOn.test(cause)) {
+                fail(executionContext, result, cause);
+                return;
+            }
+            executionContext.addRetriesAttempted(1);
+            executionContext.setActivityStatus(ActivityStatus.PROCESSING_WITH_ERROR);
+            scheduler.schedule(
+                    () -> dispatch(executionContext, task, result),
+                    delayNanos(executionContext.getRetriesAttempted()),
+                    TimeUnit.NANOSECONDS);
+        } catch (RuntimeException | Error e) {
+            /* may run in stage callback that swallows exception, caller would never hear back */
+            if (e != cause) {
+                e.addSuppressed(cause);
+            }
+            fail(executionContext, result, e);
+        }
+    }
+
+    private static void fail(
+            ExecutionContext<?, ?> executionContext, CompletableFuture<?> result, Throwable throwable) {
+        try {
+            executionContext.setActivityStatus(ActivityStatus.FAILED);
+        } finally {
+            result.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Delay before given retry.
+     *
+     * @param retry retry number starting from 1
+     * @return delay in nanoseconds
+     */
+    long delayNanos(int retry) {
+        double delay = Math.min(maxDelayNanos, initialDelayNanos * Math.pow(multiplier, retry - 1));
+        if (jitter > 0) {
+            delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long) delay;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
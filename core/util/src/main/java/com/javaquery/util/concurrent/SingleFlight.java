@@ -0,0 +1,129 @@
+package com.javaquery.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Deduplicates concurrent loads of same key. First caller of a key executes the loader, callers arriving while it is
+ * in flight wait and share its result or exception. Nothing is kept once the load completes, combine it with a cache
+ * to keep results.
+ *
+ * <pre>
+ * SingleFlight&lt;Long, User&gt; singleFlight = new SingleFlight&lt;&gt;();
+ * User user = singleFlight.execute(id, key -&gt; repository.findById(key).orElse(null));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Execute loader for key or wait for load of same key already in flight.
+     *
+     * @param key the key
+     * @param loader the loader
+     * @return the value
+     */
+    public V execute(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(key);
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+        try {
+            V value = loader.apply(key);
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Execute loader once for keys not in flight and wait for the rest. Keys missing in map returned by loader are
+     * absent.
+     *
+     * @param keys the keys
+     * @param loader loads values of keys in one call
+     * @return values of keys present, in order of keys
+     */
+    public Map<K, V> executeAll(
+            Collection<? extends K> keys, Function<? super List<K>, ? extends Map<? extends K, ? extends V>> loader) {
+        // validated before registering any key, registered keys would never complete otherwise
+        for (K key : keys) {
+            Objects.requireNonNull(key, "keys must not contain null");
+        }
+        Map<K, CompletableFuture<V>> owned = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> shared = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (owned.containsKey(key) || shared.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<V> call = new CompletableFuture<>();
+            CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+            if (inFlight == null) {
+                owned.put(key, call);
+            } else {
+                shared.put(key, inFlight);
+            }
+        }
+        if (!owned.isEmpty()) {
+            try {
+                Map<? extends K, ? extends V> loaded = loader.apply(new ArrayList<>(owned.keySet()));
+                owned.forEach((key, call) -> call.complete(loaded.get(key)));
+            } catch (RuntimeException | Error e) {
+                owned.values().forEach(call -> call.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(calls::remove);
+            }
+        }
+        // owned loads are complete before waiting, so callers with overlapping keys can't wait for each other
+        Map<K, V> values = new LinkedHashMap<>();
+        for (K key : keys) {
+            CompletableFuture<V> call = owned.containsKey(key) ? owned.get(key) : shared.get(key);
+            V value = join(call);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return number of keys in flight
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
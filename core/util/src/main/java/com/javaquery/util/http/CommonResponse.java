@@ -6,6 +6,8 @@ import java.util.Collections;
 import java.util.List;
 
 /**
+ * Responses created using {@code of(...)} are counted in {@link ResponseMetrics#global()}.
+ *
  * @author vicky.thakor
  * @since 1.0.0
  */
@@ -32,19 +34,32 @@ public class CommonResponse<T> implements Serializable {
     }
 
     public static <T> CommonResponse<T> of(HttpStatusCode statusCode, String message, T payload) {
-        return new CommonResponse<>(statusCode.value(), message, payload, Collections.emptyList());
+        return counted(new CommonResponse<>(statusCode.value(), message, payload, Collections.emptyList()));
     }
 
     public static <T> CommonResponse<T> of(HttpStatusCode statusCode, String message) {
-        return new CommonResponse<>(statusCode.value(), message, null, Collections.emptyList());
+        return counted(new CommonResponse<>(statusCode.value(), message, null, Collections.emptyList()));
     }
 
     public static <T> CommonResponse<T> of(HttpStatusCode statusCode, T payload) {
-        return new CommonResponse<>(statusCode.value(), null, payload, Collections.emptyList());
+        return counted(new CommonResponse<>(statusCode.value(), null, payload, Collections.emptyList()));
     }
 
     public static <T> CommonResponse<T> of(HttpStatusCode statusCode, List<String> errorMessages) {
-        return new CommonResponse<>(statusCode.value(), null, null, errorMessages);
+        return counted(new CommonResponse<>(statusCode.value(), null, null, errorMessages));
+    }
+
+    /**
+     * Response that is not counted in {@link ResponseMetrics}, used for {@link PreSerializedResponse} which is
+     * counted when written and for responses decoded by {@link CommonResponseCodec}.
+     */
+    static <T> CommonResponse<T> uncounted(int statusCode, String message, T payload, List<String> errorMessages) {
+        return new CommonResponse<>(statusCode, message, payload, errorMessages);
+    }
+
+    private static <T> CommonResponse<T> counted(CommonResponse<T> response) {
+        ResponseMetrics.global().record(response.statusCode);
+        return response;
     }
 
     public int getStatusCode() {
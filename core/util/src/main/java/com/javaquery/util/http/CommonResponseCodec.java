@@ -0,0 +1,134 @@
+package com.javaquery.util.http;
+
+import com.javaquery.util.io.BinaryCodec;
+import com.javaquery.util.io.BinaryReader;
+import com.javaquery.util.io.BinaryWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Binary codec of {@link CommonResponse} for service-to-service calls, selected by {@link ResponseFormat#BINARY}.
+ * Field names are not written: envelope is a version byte, a byte of present-field flags and the present fields as
+ * varints and length-prefixed strings. Payload is encoded using payload codec.
+ *
+ * <pre>
+ * CommonResponseCodec&lt;List&lt;String&gt;&gt; codec =
+ *         new CommonResponseCodec&lt;&gt;(BinaryCodec.listOf(BinaryCodec.STRING));
+ * byte[] bytes = codec.toByteArray(response);
+ * CommonResponse&lt;List&lt;String&gt;&gt; decoded = codec.fromByteArray(bytes);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class CommonResponseCodec<T> implements BinaryCodec<CommonResponse<T>> {
+
+    public static final int VERSION = 1;
+
+    private static final int MESSAGE = 1;
+    private static final int PAYLOAD = 1 << 1;
+    private static final int ERROR_MESSAGES = 1 << 2;
+    private static final int PAGE = 1 << 3;
+    private static final int LIMIT = 1 << 4;
+    private static final int TOTAL = 1 << 5;
+
+    private static final BinaryCodec<List<String>> STRINGS = BinaryCodec.listOf(BinaryCodec.STRING);
+
+    private final BinaryCodec<T> payloadCodec;
+
+    /**
+     * Codec of responses without payload.
+     */
+    public CommonResponseCodec() {
+        this(null);
+    }
+
+    /**
+     * @param payloadCodec codec of payload, may be {@code null} if responses have no payload
+     */
+    public CommonResponseCodec(BinaryCodec<T> payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+
+    /**
+     * @throws IllegalArgumentException if response has payload but payload codec is {@code null}
+     */
+    @Override
+    public void encode(CommonResponse<T> response, BinaryWriter writer) {
+        T payload = response.getPayload();
+        if (payload != null && payloadCodec == null) {
+            throw new IllegalArgumentException("payloadCodec is required to encode payload");
+        }
+        int flags = (response.getMessage() != null ? MESSAGE : 0)
+                | (payload != null ? PAYLOAD : 0)
+                | (response.getErrorMessages() != null ? ERROR_MESSAGES : 0)
+                | (response.getPage() != null ? PAGE : 0)
+                | (response.getLimit() != null ? LIMIT : 0)
+                | (response.getTotal() != null ? TOTAL : 0);
+        writer.writeByte(VERSION).writeByte(flags).writeVarInt(response.getStatusCode());
+        if ((flags & MESSAGE) != 0) {
+            writer.writeString(response.getMessage());
+        }
+        if ((flags & PAYLOAD) != 0) {
+            payloadCodec.encode(payload, writer);
+        }
+        if ((flags & ERROR_MESSAGES) != 0) {
+            STRINGS.encode(response.getErrorMessages(), writer);
+        }
+        if ((flags & PAGE) != 0) {
+            writer.writeInt(response.getPage());
+        }
+        if ((flags & LIMIT) != 0) {
+            writer.writeInt(response.getLimit());
+        }
+        if ((flags & TOTAL) != 0) {
+            writer.writeLong(response.getTotal());
+        }
+    }
+
+    /**
+     * Decoded response is not counted in {@link ResponseMetrics}.
+     *
+     * @throws IllegalArgumentException if bytes are malformed or of unsupported version
+     */
+    @Override
+    public CommonResponse<T> decode(BinaryReader reader) {
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version " + version);
+        }
+        int flags = reader.readByte();
+        if ((flags & PAYLOAD) != 0 && payloadCodec == null) {
+            throw new IllegalArgumentException("payloadCodec is required to decode payload");
+        }
+        int statusCode = reader.readVarInt();
+        String message = (flags & MESSAGE) != 0 ? reader.readString() : null;
+        T payload = (flags & PAYLOAD) != 0 ? payloadCodec.decode(reader) : null;
+        List<String> errorMessages = (flags & ERROR_MESSAGES) != 0 ? STRINGS.decode(reader) : null;
+        CommonResponse<T> response = CommonResponse.uncounted(statusCode, message, payload, errorMessages);
+        if ((flags & PAGE) != 0) {
+            response.withPage(reader.readInt());
+        }
+        if ((flags & LIMIT) != 0) {
+            response.withLimit(reader.readInt());
+        }
+        if ((flags & TOTAL) != 0) {
+            response.withTotal(reader.readLong());
+        }
+        return response;
+    }
+
+    /**
+     * Write encoded response to output stream, stream is not closed.
+     *
+     * @param response the response
+     * @param outputStream the output stream
+     * @throws IOException if writing fails
+     */
+    public void writeTo(CommonResponse<T> response, OutputStream outputStream) throws IOException {
+        BinaryWriter writer = new BinaryWriter(256);
+        encode(response, writer);
+        writer.writeTo(outputStream);
+    }
+}
@@ -0,0 +1,152 @@
+package com.javaquery.util.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes {@link CommonResponse} as JSON without reflection. Envelope fields are written directly, only payload
+ * is handed over to {@link PayloadWriter}. Output matches Jackson serialization of {@link CommonResponse}:
+ * same field names, same order, {@code null} fields omitted.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class CommonResponseWriter {
+
+    public static final String STATUS_CODE = "statusCode";
+    public static final String MESSAGE = "message";
+    public static final String PAYLOAD = "payload";
+    public static final String ERROR_MESSAGES = "errorMessages";
+    public static final String PAGE = "page";
+    public static final String LIMIT = "limit";
+    public static final String TOTAL = "total";
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private CommonResponseWriter() {}
+
+    /**
+     * Write response to output stream, stream is not closed.
+     *
+     * @param response the response
+     * @param outputStream the output stream
+     * @param payloadWriter writer of payload, may be {@code null} if response has no payload
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if response has payload but payloadWriter is {@code null}
+     */
+    public static void write(CommonResponse<?> response, OutputStream outputStream, PayloadWriter payloadWriter)
+            throws IOException {
+        Object payload = response.getPayload();
+        if (payload != null && payloadWriter == null) {
+            throw new IllegalArgumentException("payloadWriter is required to write payload");
+        }
+        StringBuilder json = new StringBuilder(64);
+        json.append('{');
+        appendField(json, STATUS_CODE).append(response.getStatusCode());
+        if (response.getMessage() != null) {
+            appendString(appendField(json.append(','), MESSAGE), response.getMessage());
+        }
+        if (payload != null) {
+            appendField(json.append(','), PAYLOAD);
+            outputStream.write(json.toString().getBytes(StandardCharsets.UTF_8));
+            json.setLength(0);
+            payloadWriter.write(payload, outputStream);
+        }
+        if (response.getErrorMessages() != null) {
+            appendStrings(appendField(json.append(','), ERROR_MESSAGES), response.getErrorMessages());
+        }
+        if (response.getPage() != null) {
+            appendField(json.append(','), PAGE).append(response.getPage());
+        }
+        if (response.getLimit() != null) {
+            appendField(json.append(','), LIMIT).append(response.getLimit());
+        }
+        if (response.getTotal() != null) {
+            appendField(json.append(','), TOTAL).append(response.getTotal());
+        }
+        json.append('}');
+        outputStream.write(json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Serialize response to byte array.
+     *
+     * @param response the response
+     * @param payloadWriter writer of payload, may be {@code null} if response has no payload
+     * @return the JSON bytes (UTF-8)
+     */
+    public static byte[] toByteArray(CommonResponse<?> response, PayloadWriter payloadWriter) {
+        Objects.requireNonNull(response);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(128);
+        try {
+            write(response, outputStream, payloadWriter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    static StringBuilder appendField(StringBuilder json, String name) {
+        return json.append('"').append(name).append("\":");
+    }
+
+    static StringBuilder appendStrings(StringBuilder json, List<String> values) {
+        json.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendString(json, values.get(i));
+        }
+        return json.append(']');
+    }
+
+    /**
+     * Append JSON string literal escaped like Jackson, short escapes where JSON has them and <code>&#92;u00XX</code>
+     * with upper case hex digits for other control characters. {@code null} is written as {@code null}.
+     */
+    static StringBuilder appendString(StringBuilder json, String value) {
+        if (value == null) {
+            return json.append("null");
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\b':
+                    json.append("\\b");
+                    break;
+                case '\f':
+                    json.append("\\f");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"');
+    }
+}
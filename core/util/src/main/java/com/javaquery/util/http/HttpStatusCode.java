@@ -386,10 +386,22 @@ public enum HttpStatusCode {
      */
     NETWORK_AUTHENTICATION_REQUIRED(511, Series.SERVER_ERROR, "Network Authentication Required");
 
+    static final int MIN_VALUE = 100;
+    static final int MAX_VALUE = 599;
+
     private static final HttpStatusCode[] VALUES;
 
+    /** Status codes indexed by {@code value - MIN_VALUE}, first declared constant wins for duplicate values. */
+    private static final HttpStatusCode[] LOOKUP;
+
     static {
         VALUES = values();
+        LOOKUP = new HttpStatusCode[MAX_VALUE - MIN_VALUE + 1];
+        for (HttpStatusCode status : VALUES) {
+            if (LOOKUP[status.value - MIN_VALUE] == null) {
+                LOOKUP[status.value - MIN_VALUE] = status;
+            }
+        }
     }
 
     private final int value;
@@ -523,13 +535,11 @@ public enum HttpStatusCode {
      * @since 5.0
      */
     public static HttpStatusCode resolve(int statusCode) {
-        // Use cached VALUES instead of values() to prevent array allocation.
-        for (HttpStatusCode status : VALUES) {
-            if (status.value == statusCode) {
-                return status;
-            }
+        // Use lookup table built once at class load instead of scanning VALUES.
+        if (statusCode < MIN_VALUE || statusCode > MAX_VALUE) {
+            return null;
         }
-        return null;
+        return LOOKUP[statusCode - MIN_VALUE];
     }
 
     /**
@@ -543,6 +553,9 @@ public enum HttpStatusCode {
         CLIENT_ERROR(4),
         SERVER_ERROR(5);
 
+        // Cached values() to prevent array allocation, ordered by value starting from 1.
+        private static final Series[] VALUES = values();
+
         private final int value;
 
         Series(int value) {
@@ -589,12 +602,10 @@ public enum HttpStatusCode {
          */
         public static Series resolve(int statusCode) {
             int seriesCode = statusCode / 100;
-            for (Series series : values()) {
-                if (series.value == seriesCode) {
-                    return series;
-                }
+            if (seriesCode < 1 || seriesCode > VALUES.length) {
+                return null;
             }
-            return null;
+            return VALUES[seriesCode - 1];
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.javaquery.util.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes {@link CommonResponse} payload as JSON. Implementation must not close the stream.
+ * example: (payload, outputStream) -&gt; objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+ * .writeValue(outputStream, payload)
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface PayloadWriter {
+    void write(Object payload, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,133 @@
+package com.javaquery.util.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable, serialized once {@link CommonResponse} for constant envelopes like error and health responses.
+ * Writing it costs a single byte array copy. Response is counted in {@link ResponseMetrics#global()} every time
+ * it is written or its bytes are taken.
+ *
+ * <pre>
+ * private static final PreSerializedResponse USER_NOT_FOUND =
+ *         PreSerializedResponse.of(HttpStatusCode.NOT_FOUND, "User not found");
+ * USER_NOT_FOUND.writeTo(response.getOutputStream());
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class PreSerializedResponse {
+
+    private static final Map<HttpStatusCode, PreSerializedResponse> STATUS_RESPONSES;
+
+    static {
+        Map<HttpStatusCode, PreSerializedResponse> statusResponses = new EnumMap<>(HttpStatusCode.class);
+        for (HttpStatusCode statusCode : HttpStatusCode.values()) {
+            statusResponses.put(statusCode, of(statusCode, statusCode.getReasonPhrase()));
+        }
+        STATUS_RESPONSES = statusResponses;
+    }
+
+    private final int statusCode;
+    private final byte[] bytes;
+
+    private PreSerializedResponse(int statusCode, byte[] bytes) {
+        this.statusCode = statusCode;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Cached response with reason phrase of status code as message.
+     * example: of(HttpStatusCode.NOT_FOUND) = {"statusCode":404,"message":"Not Found","errorMessages":[]}
+     *
+     * @param statusCode the status code
+     * @return the pre-serialized response
+     */
+    public static PreSerializedResponse of(HttpStatusCode statusCode) {
+        return STATUS_RESPONSES.get(statusCode);
+    }
+
+    /**
+     * Pre-serialize response with status code and message.
+     *
+     * @param statusCode the status code
+     * @param message the message
+     * @return the pre-serialized response
+     */
+    public static PreSerializedResponse of(HttpStatusCode statusCode, String message) {
+        return of(CommonResponse.uncounted(statusCode.value(), message, null, Collections.emptyList()));
+    }
+
+    /**
+     * Pre-serialize response without payload.
+     *
+     * @param response the response
+     * @return the pre-serialized response
+     * @throws IllegalArgumentException if response has payload
+     */
+    public static PreSerializedResponse of(CommonResponse<?> response) {
+        return of(response, null);
+    }
+
+    /**
+     * Pre-serialize response, payload is serialized using payloadWriter. Response created using
+     * {@code CommonResponse.of(...)} is already counted once in {@link ResponseMetrics}.
+     *
+     * @param response the response
+     * @param payloadWriter writer of payload, may be {@code null} if response has no payload
+     * @return the pre-serialized response
+     */
+    public static PreSerializedResponse of(CommonResponse<?> response, PayloadWriter payloadWriter) {
+        return new PreSerializedResponse(
+                response.getStatusCode(), CommonResponseWriter.toByteArray(response, payloadWriter));
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return number of bytes, use as Content-Length
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * Write response to output stream, stream is not closed.
+     *
+     * @param outputStream the output stream
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        ResponseMetrics.global().record(statusCode);
+        outputStream.write(bytes);
+    }
+
+    /**
+     * @return copy of serialized bytes (UTF-8 JSON)
+     */
+    public byte[] toByteArray() {
+        ResponseMetrics.global().record(statusCode);
+        return bytes.clone();
+    }
+
+    /**
+     * @return read-only view of serialized bytes (UTF-8 JSON)
+     */
+    public ByteBuffer asByteBuffer() {
+        ResponseMetrics.global().record(statusCode);
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,99 @@
+package com.javaquery.util.http;
+
+import com.javaquery.util.Strings;
+
+/**
+ * Wire formats of {@link CommonResponse}. {@link #negotiate(String)} picks format from {@code Accept} header so
+ * internal callers can opt in to {@link #BINARY} while everybody else keeps receiving {@link #JSON}.
+ *
+ * <pre>
+ * ResponseFormat format = ResponseFormat.negotiate(request.getHeader("Accept"));
+ * response.setContentType(format.getMediaType());
+ * if (format == ResponseFormat.BINARY) {
+ *     codec.writeTo(commonResponse, response.getOutputStream());
+ * } else {
+ *     CommonResponseWriter.write(commonResponse, response.getOutputStream(), payloadWriter);
+ * }
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public enum ResponseFormat {
+    /** JSON written by Jackson or {@link CommonResponseWriter}. */
+    JSON("application/json"),
+    /** Binary encoded by {@link CommonResponseCodec}. */
+    BINARY("application/x-javaquery-binary");
+
+    private final String mediaType;
+
+    ResponseFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Pick format with highest quality in {@code Accept} header. {@link #JSON} is returned when header is empty,
+     * when no format is acceptable or when both have same quality.
+     * example: negotiate("application/x-javaquery-binary, application/json;q=0.5") = BINARY
+     *
+     * @param accept the Accept header
+     * @return the response format
+     */
+    public static ResponseFormat negotiate(String accept) {
+        if (Strings.nullOrEmpty(accept)) {
+            return JSON;
+        }
+        double json = 0;
+        double binary = 0;
+        int start = 0;
+        while (start < accept.length()) {
+            int end = accept.indexOf(',', start);
+            end = end < 0 ? accept.length() : end;
+            String range = accept.substring(start, end);
+            start = end + 1;
+
+            int parameters = range.indexOf(';');
+            String type = (parameters < 0 ? range : range.substring(0, parameters)).trim();
+            double quality = parameters < 0 ? 1 : quality(range.substring(parameters + 1));
+            if (BINARY.mediaType.equalsIgnoreCase(type)) {
+                binary = Math.max(binary, quality);
+            } else if (JSON.mediaType.equalsIgnoreCase(type)
+                    || "application/*".equalsIgnoreCase(type)
+                    || "*/*".equals(type)) {
+                json = Math.max(json, quality);
+            }
+        }
+        return binary > json ? BINARY : JSON;
+    }
+
+    /**
+     * Resolve format of {@code Content-Type} header, parameters like charset are ignored.
+     *
+     * @param contentType the Content-Type header
+     * @return the response format, {@link #JSON} if content type is not binary
+     */
+    public static ResponseFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.regionMatches(true, 0, BINARY.mediaType, 0, BINARY.mediaType.length())) {
+            return BINARY;
+        }
+        return JSON;
+    }
+
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String value = parameter.trim();
+            if (value.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(value.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
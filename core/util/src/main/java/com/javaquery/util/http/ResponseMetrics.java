@@ -0,0 +1,124 @@
+package com.javaquery.util.http;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counters of responses by status code. Every {@link CommonResponse} created using
+ * {@code CommonResponse.of(...)} is counted in {@link #global()}; counting is a single increment of an array slot.
+ *
+ * <p>Counters are striped: each thread increments its own copy of the array, chosen by thread id, so concurrent
+ * requests rarely contend on the same slot. Copies are summed when {@link #snapshot()} is taken, counts of
+ * {@link HttpStatusCode.Series} are derived from status code counts.
+ *
+ * <pre>
+ * ResponseMetricsSnapshot snapshot = ResponseMetrics.global().snapshot();
+ * double errorRate = snapshot.getRate(HttpStatusCode.Series.SERVER_ERROR);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class ResponseMetrics {
+
+    static final int SIZE = HttpStatusCode.MAX_VALUE - HttpStatusCode.MIN_VALUE + 1;
+
+    private static final ResponseMetrics GLOBAL = new ResponseMetrics();
+
+    private final int stripeMask;
+    private final AtomicLongArray counts;
+    private volatile boolean enabled = true;
+
+    public ResponseMetrics() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param stripes number of counter copies, rounded up to power of two
+     */
+    public ResponseMetrics(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+        int size = Integer.highestOneBit(stripes);
+        size = size < stripes ? size << 1 : size;
+        this.stripeMask = size - 1;
+        this.counts = new AtomicLongArray(size * SIZE);
+    }
+
+    /**
+     * Metrics fed by {@link CommonResponse}, {@link StreamingCommonResponse} and {@link PreSerializedResponse}.
+     *
+     * @return the global response metrics
+     */
+    public static ResponseMetrics global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable counting. Disabled metrics ignore {@link #record} calls.
+     *
+     * @param enabled the enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Count response of given status.
+     *
+     * @param statusCode the status code
+     */
+    public void record(HttpStatusCode statusCode) {
+        record(statusCode.value());
+    }
+
+    /**
+     * Count response of given status code, codes outside 100..599 are ignored.
+     *
+     * @param statusCode the status code
+     */
+    public void record(int statusCode) {
+        int index = statusCode - HttpStatusCode.MIN_VALUE;
+        if (!enabled || index < 0 || index >= SIZE) {
+            return;
+        }
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        counts.getAndIncrement(stripe * SIZE + index);
+    }
+
+    /**
+     * Point-in-time counts. Counters are read one by one, responses counted while snapshot is taken may or may not
+     * be included.
+     *
+     * @return the response metrics snapshot
+     */
+    public ResponseMetricsSnapshot snapshot() {
+        long[] totals = new long[SIZE];
+        for (int i = 0; i < counts.length(); i++) {
+            totals[i % SIZE] += counts.get(i);
+        }
+        return new ResponseMetricsSnapshot(totals);
+    }
+
+    /**
+     * Publish snapshot to the exporter.
+     *
+     * @param exporter the exporter
+     */
+    public void export(ResponseMetricsExporter exporter) {
+        exporter.export(snapshot());
+    }
+
+    /**
+     * Reset all counters.
+     */
+    public void clear() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.javaquery.util.http;
+
+/**
+ * Implement this interface to publish {@link ResponseMetrics} snapshots to your monitoring system.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ResponseMetricsExporter {
+    void export(ResponseMetricsSnapshot snapshot);
+}
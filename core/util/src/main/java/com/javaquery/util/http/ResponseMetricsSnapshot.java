@@ -0,0 +1,105 @@
+package com.javaquery.util.http;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable point-in-time view of {@link ResponseMetrics}.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class ResponseMetricsSnapshot {
+
+    private final long[] counts;
+    private final long[] seriesCounts = new long[HttpStatusCode.Series.values().length];
+    private final long total;
+
+    ResponseMetricsSnapshot(long[] counts) {
+        this.counts = counts;
+        long sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seriesCounts[(i + HttpStatusCode.MIN_VALUE) / 100 - 1] += counts[i];
+            sum += counts[i];
+        }
+        this.total = sum;
+    }
+
+    /**
+     * @return number of responses counted
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Get count of status code. Constants sharing same value (e.g. 302) share the count.
+     *
+     * @param statusCode the status code
+     * @return the count
+     */
+    public long getCount(HttpStatusCode statusCode) {
+        return getCount(statusCode.value());
+    }
+
+    /**
+     * Get count of status code.
+     *
+     * @param statusCode the status code
+     * @return the count, {@code 0} for codes outside 100..599
+     */
+    public long getCount(int statusCode) {
+        int index = statusCode - HttpStatusCode.MIN_VALUE;
+        return index < 0 || index >= counts.length ? 0 : counts[index];
+    }
+
+    /**
+     * Get count of series.
+     *
+     * @param series the series
+     * @return the count
+     */
+    public long getCount(HttpStatusCode.Series series) {
+        return seriesCounts[series.value() - 1];
+    }
+
+    /**
+     * Share of responses in series, e.g. {@code getRate(Series.SERVER_ERROR)} for error-rate SLO.
+     *
+     * @param series the series
+     * @return the rate between 0 and 1, {@code 0} if nothing counted
+     */
+    public double getRate(HttpStatusCode.Series series) {
+        return total == 0 ? 0 : (double) getCount(series) / total;
+    }
+
+    /**
+     * @return counts of status codes with at least one response, ordered by status code
+     */
+    public Map<Integer, Long> getCounts() {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                result.put(i + HttpStatusCode.MIN_VALUE, counts[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return counts of all series
+     */
+    public Map<HttpStatusCode.Series, Long> getSeriesCounts() {
+        Map<HttpStatusCode.Series, Long> result = new EnumMap<>(HttpStatusCode.Series.class);
+        for (HttpStatusCode.Series series : HttpStatusCode.Series.values()) {
+            result.put(series, getCount(series));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseMetricsSnapshot{" + "total=" + total + ", counts=" + getCounts() + '}';
+    }
+}
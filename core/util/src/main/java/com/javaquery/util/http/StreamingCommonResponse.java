@@ -0,0 +1,172 @@
+package com.javaquery.util.http;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link CommonResponse} for large payload lists. Items are written one by one as they are read from
+ * {@link Iterator} or {@link Stream}, so heap usage stays flat regardless of result size. Response is counted in
+ * {@link ResponseMetrics#global()} when created.
+ *
+ * <p>Envelope header is written first, then {@code payload} array, then {@code total} (number of items written)
+ * and {@code errorMessages} collected while streaming:
+ * <pre>
+ * {"statusCode":200,"page":0,"limit":1000,"payload":[...],"total":250000,"errorMessages":[]}
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class StreamingCommonResponse<T> {
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final int statusCode;
+    private final String message;
+    private final Iterator<? extends T> items;
+    private final Stream<?> stream;
+    private final List<String> errorMessages = Collections.synchronizedList(new ArrayList<>());
+    private Integer page;
+    private Integer limit;
+
+    private StreamingCommonResponse(
+            int statusCode, String message, Iterator<? extends T> items, Stream<?> stream) {
+        this.statusCode = statusCode;
+        this.message = message;
+        this.items = Objects.requireNonNull(items);
+        this.stream = stream;
+        ResponseMetrics.global().record(statusCode);
+    }
+
+    public static <T> StreamingCommonResponse<T> of(HttpStatusCode statusCode, Iterator<? extends T> items) {
+        return new StreamingCommonResponse<>(statusCode.value(), null, items, null);
+    }
+
+    public static <T> StreamingCommonResponse<T> of(
+            HttpStatusCode statusCode, String message, Iterator<? extends T> items) {
+        return new StreamingCommonResponse<>(statusCode.value(), message, items, null);
+    }
+
+    /**
+     * Stream is closed once response is written.
+     */
+    public static <T> StreamingCommonResponse<T> of(HttpStatusCode statusCode, Stream<? extends T> items) {
+        return new StreamingCommonResponse<>(statusCode.value(), null, items.iterator(), items);
+    }
+
+    /**
+     * Stream is closed once response is written.
+     */
+    public static <T> StreamingCommonResponse<T> of(
+            HttpStatusCode statusCode, String message, Stream<? extends T> items) {
+        return new StreamingCommonResponse<>(statusCode.value(), message, items.iterator(), items);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public StreamingCommonResponse<T> withPage(Integer page) {
+        this.page = page;
+        return this;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public StreamingCommonResponse<T> withLimit(Integer limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+
+    /**
+     * Add error message, may be called while items are streamed. Messages are written at the end of response.
+     *
+     * @param errorMessage the error message
+     * @return the streaming common response
+     */
+    public StreamingCommonResponse<T> addErrorMessage(String errorMessage) {
+        errorMessages.add(errorMessage);
+        return this;
+    }
+
+    /**
+     * Write response to output stream. Output stream is flushed but not closed, source stream is closed.
+     *
+     * @param outputStream the output stream
+     * @param itemWriter writer of single item
+     * @return number of items written
+     * @throws IOException if writing fails
+     */
+    public long writeTo(OutputStream outputStream, PayloadWriter itemWriter) throws IOException {
+        Objects.requireNonNull(itemWriter);
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, 8192);
+        long total = 0;
+        try {
+            StringBuilder json = new StringBuilder(64).append('{');
+            CommonResponseWriter.appendField(json, CommonResponseWriter.STATUS_CODE).append(statusCode);
+            if (message != null) {
+                CommonResponseWriter.appendString(
+                        CommonResponseWriter.appendField(json.append(','), CommonResponseWriter.MESSAGE), message);
+            }
+            if (page != null) {
+                CommonResponseWriter.appendField(json.append(','), CommonResponseWriter.PAGE).append(page);
+            }
+            if (limit != null) {
+                CommonResponseWriter.appendField(json.append(','), CommonResponseWriter.LIMIT).append(limit);
+            }
+            CommonResponseWriter.appendField(json.append(','), CommonResponseWriter.PAYLOAD).append('[');
+            out.write(json.toString().getBytes(StandardCharsets.UTF_8));
+
+            while (items.hasNext()) {
+                T item = items.next();
+                if (total > 0) {
+                    out.write(',');
+                }
+                if (item == null) {
+                    out.write(NULL);
+                } else {
+                    itemWriter.write(item, out);
+                }
+                total++;
+            }
+
+            json.setLength(0);
+            json.append("],");
+            CommonResponseWriter.appendField(json, CommonResponseWriter.TOTAL).append(total).append(',');
+            synchronized (errorMessages) {
+                CommonResponseWriter.appendStrings(
+                        CommonResponseWriter.appendField(json, CommonResponseWriter.ERROR_MESSAGES), errorMessages);
+            }
+            json.append('}');
+            out.write(json.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } finally {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+        return total;
+    }
+}
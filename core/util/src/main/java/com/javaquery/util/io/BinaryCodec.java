@@ -0,0 +1,133 @@
+package com.javaquery.util.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Encodes and decodes value of type {@code T} using {@link BinaryWriter} and {@link BinaryReader}.
+ *
+ * <pre>
+ * BinaryCodec&lt;User&gt; USER = BinaryCodec.of(
+ *         (user, writer) -&gt; writer.writeLong(user.getId()).writeString(user.getName()),
+ *         reader -&gt; new User(reader.readLong(), reader.readString()));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public interface BinaryCodec<T> {
+
+    /** Nullable string. */
+    BinaryCodec<String> STRING = of((value, writer) -> writer.writeString(value), BinaryReader::readString);
+
+    /** Nullable integer. */
+    BinaryCodec<Integer> INTEGER = nullable(of((value, writer) -> writer.writeInt(value), BinaryReader::readInt));
+
+    /** Nullable long. */
+    BinaryCodec<Long> LONG = nullable(of((value, writer) -> writer.writeLong(value), BinaryReader::readLong));
+
+    /** Nullable double. */
+    BinaryCodec<Double> DOUBLE =
+            nullable(of((value, writer) -> writer.writeDouble(value), BinaryReader::readDouble));
+
+    void encode(T value, BinaryWriter writer);
+
+    T decode(BinaryReader reader);
+
+    /**
+     * Encode value to new byte array.
+     *
+     * @param value the value
+     * @return the bytes
+     */
+    default byte[] toByteArray(T value) {
+        BinaryWriter writer = new BinaryWriter();
+        encode(value, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decode value from byte array.
+     *
+     * @param bytes the bytes
+     * @return the value
+     * @throws IllegalArgumentException if bytes are malformed
+     */
+    default T fromByteArray(byte[] bytes) {
+        return decode(new BinaryReader(bytes));
+    }
+
+    /**
+     * Create codec from encoder and decoder functions.
+     *
+     * @param encoder the encoder
+     * @param decoder the decoder
+     * @param <T> the type of value
+     * @return the binary codec
+     */
+    static <T> BinaryCodec<T> of(BiConsumer<T, BinaryWriter> encoder, Function<BinaryReader, T> decoder) {
+        return new BinaryCodec<T>() {
+            @Override
+            public void encode(T value, BinaryWriter writer) {
+                encoder.accept(value, writer);
+            }
+
+            @Override
+            public T decode(BinaryReader reader) {
+                return decoder.apply(reader);
+            }
+        };
+    }
+
+    /**
+     * Codec of nullable value, boolean marker is written before value so {@code false} marks {@code null}.
+     *
+     * @param codec the codec of non-null value
+     * @param <T> the type of value
+     * @return the binary codec
+     */
+    static <T> BinaryCodec<T> nullable(BinaryCodec<T> codec) {
+        return of(
+                (value, writer) -> {
+                    writer.writeBoolean(value != null);
+                    if (value != null) {
+                        codec.encode(value, writer);
+                    }
+                },
+                reader -> reader.readBoolean() ? codec.decode(reader) : null);
+    }
+
+    /**
+     * Codec of nullable list, items are encoded using item codec.
+     *
+     * @param itemCodec the item codec
+     * @param <T> the type of item
+     * @return the binary codec
+     */
+    static <T> BinaryCodec<List<T>> listOf(BinaryCodec<T> itemCodec) {
+        return of(
+                (list, writer) -> {
+                    if (list == null) {
+                        writer.writeVarInt(0);
+                        return;
+                    }
+                    writer.writeVarInt(list.size() + 1);
+                    for (T item : list) {
+                        itemCodec.encode(item, writer);
+                    }
+                },
+                reader -> {
+                    int size = reader.readVarInt() - 1;
+                    if (size < 0) {
+                        return null;
+                    }
+                    List<T> list = new ArrayList<>(Math.min(size, reader.remaining()));
+                    for (int i = 0; i < size; i++) {
+                        list.add(itemCodec.decode(reader));
+                    }
+                    return list;
+                });
+    }
+}
@@ -0,0 +1,137 @@
+package com.javaquery.util.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Decoder of bytes written by {@link BinaryWriter}. Values must be read in the order they were written.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class BinaryReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * @return unsigned byte
+     * @throws IllegalArgumentException if there are no bytes left
+     */
+    public int readByte() {
+        if (position >= limit) {
+            throw new IllegalArgumentException("Unexpected end of input at " + position);
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * @return the int
+     * @throws IllegalArgumentException if varint is longer than 5 bytes or doesn't fit in 32 bits
+     */
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            /* 5th byte carries only 4 high bits of int */
+            if (shift == 28 && (b & 0xF0) != 0) {
+                break;
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + position);
+    }
+
+    /**
+     * @return the long
+     * @throws IllegalArgumentException if varint is longer than 10 bytes or doesn't fit in 64 bits
+     */
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            /* 10th byte carries only highest bit of long */
+            if (shift == 63 && (b & 0xFE) != 0) {
+                break;
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + position);
+    }
+
+    public int readInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public double readDouble() {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | readByte();
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        int length = readLength();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public byte[] readBytes() {
+        int length = readLength();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        System.arraycopy(buffer, position, value, 0, length);
+        position += length;
+        return value;
+    }
+
+    /**
+     * @return number of bytes left to read
+     */
+    public int remaining() {
+        return limit - position;
+    }
+
+    private int readLength() {
+        int length = readVarInt() - 1;
+        if (length < -1 || length > remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length + ", remaining " + remaining() + " bytes");
+        }
+        return length;
+    }
+}
@@ -0,0 +1,176 @@
+package com.javaquery.util.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoder backed by growable byte array. Integers are written as zig-zag varints (1 byte for
+ * values between -64 and 63), strings as varint length followed by UTF-8 bytes. Read back using
+ * {@link BinaryReader} in the same order.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class BinaryWriter {
+
+    private byte[] buffer;
+    private int size;
+
+    public BinaryWriter() {
+        this(64);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public BinaryWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write unsigned varint, negative values take 5 bytes.
+     *
+     * @param value the value
+     * @return the binary writer
+     */
+    public BinaryWriter writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Write unsigned varint, negative values take 10 bytes.
+     *
+     * @param value the value
+     * @return the binary writer
+     */
+    public BinaryWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Write signed int as zig-zag varint.
+     *
+     * @param value the value
+     * @return the binary writer
+     */
+    public BinaryWriter writeInt(int value) {
+        return writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Write signed long as zig-zag varint.
+     *
+     * @param value the value
+     * @return the binary writer
+     */
+    public BinaryWriter writeLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryWriter writeDouble(double value) {
+        long bits = Double.doubleToLongBits(value);
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (bits >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * Write nullable string, length is stored as {@code length + 1} so {@code 0} marks {@code null}.
+     *
+     * @param value the value
+     * @return the binary writer
+     */
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        int length = value.length();
+        boolean ascii = true;
+        for (int i = 0; i < length && ascii; i++) {
+            ascii = value.charAt(i) < 0x80;
+        }
+        if (!ascii) {
+            return writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+        writeVarInt(length + 1);
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * Write nullable byte array, length is stored as {@code length + 1} so {@code 0} marks {@code null}.
+     *
+     * @param value the value
+     * @return the binary writer
+     */
+    public BinaryWriter writeBytes(byte[] value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+        writeVarInt(value.length + 1);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, size, value.length);
+        size += value.length;
+        return this;
+    }
+
+    /**
+     * @return number of bytes written
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discard written bytes, buffer is kept for reuse.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Write bytes to output stream, stream is not closed.
+     *
+     * @param outputStream the output stream
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, size);
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+        }
+    }
+}
@@ -13,4 +13,13 @@ public enum ActivityStatus {
     FAILED,
     PROCESSING_WITH_ERROR,
     COMPLETED_WITH_ERROR;
+
+    /**
+     * Returns {@code true} if this status ends the activity.
+     *
+     * @return {@code true} for {@link #COMPLETED}, {@link #FAILED} and {@link #COMPLETED_WITH_ERROR}
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == COMPLETED_WITH_ERROR;
+    }
 }
@@ -0,0 +1,26 @@
+package com.javaquery.util.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ *
+ * Keeps given fraction of entries.
+ */
+final class FixedRateLogSampler implements LogSampler {
+
+    private final double rate;
+
+    FixedRateLogSampler(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("rate must be between 0 and 1");
+        }
+        this.rate = rate;
+    }
+
+    @Override
+    public boolean sample(Action action) {
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
@@ -1,10 +1,15 @@
 package com.javaquery.util.logging;
 
+import com.javaquery.util.ExecutionContext;
+import com.javaquery.util.metrics.MetricsRegistry;
 import java.util.*;
 
 /**
  * @author vicky.thakor
  * @since 1.0.0
+ *
+ * Entries are sampled using {@link LogSampling#sampler(Action)}. Sampling only decides whether entry is written,
+ * attributes, message and tags are always recorded. Check {@link #isSampled()} before writing entry to logger.
  */
 public final class LogBuilder {
 
@@ -12,14 +17,23 @@ public final class LogBuilder {
     public static final String MESSAGE = "message";
     public static final String TAGS = "tags";
     public static final String EXECUTION_TIME = "executionTime";
+    public static final String ACTIVITY_STATUS = "activityStatus";
 
+    private final Action action;
     private final Map<String, Object> attributes;
     private final StringJoiner messageBuilder;
     private String message;
     private final List<String> tags;
     private long executionStartTime;
+    private ActivityStatus activityStatus;
+    private final LogSampler logSampler;
+    private final boolean sampled;
+    private boolean recordMetrics = true;
 
     public LogBuilder(Action action) {
+        this.action = action;
+        this.logSampler = LogSampling.sampler(action);
+        this.sampled = logSampler.sample(action);
         attributes = new HashMap<>();
         tags = new ArrayList<>();
         messageBuilder = new StringJoiner("\n");
@@ -101,22 +115,62 @@ public final class LogBuilder {
         }
     }
 
+    /**
+     * Gets activity status.
+     *
+     * @return the activity status
+     */
+    public ActivityStatus getActivityStatus() {
+        return activityStatus;
+    }
+
+    /**
+     * Sets activity status.
+     *
+     * @param activityStatus the activity status
+     */
+    public void setActivityStatus(ActivityStatus activityStatus) {
+        this.activityStatus = activityStatus;
+        put(ACTIVITY_STATUS, activityStatus);
+    }
+
     /**
      * Sets execution start time.
      */
     public void setExecutionStartTime() {
-        executionStartTime = System.currentTimeMillis();
+        executionStartTime = System.nanoTime();
     }
 
     /**
      * Set execution end time and executionTime (milliseconds) will be added in attributes.
+     * Execution time is also recorded in {@link MetricsRegistry#global()} against action and activity status, unless
+     * disabled with {@link #setRecordMetrics(boolean)}.
      */
     public void setExecutionEndTime() {
         if (executionStartTime != 0) {
-            attributes.put(EXECUTION_TIME, (System.currentTimeMillis() - executionStartTime));
+            long executionTimeNanos = System.nanoTime() - executionStartTime;
+            put(EXECUTION_TIME, executionTimeNanos / 1_000_000);
+            if (recordMetrics) {
+                MetricsRegistry.global().record(action, activityStatus, executionTimeNanos);
+            }
         }
     }
 
+    public boolean isRecordMetrics() {
+        return recordMetrics;
+    }
+
+    /**
+     * Record execution time in {@link MetricsRegistry#global()}, enabled by default. Disable it when the same
+     * execution is recorded elsewhere, e.g. by {@link ExecutionContext} of the same action reaching terminal status,
+     * so it is counted once.
+     *
+     * @param recordMetrics record execution time
+     */
+    public void setRecordMetrics(boolean recordMetrics) {
+        this.recordMetrics = recordMetrics;
+    }
+
     /**
      * Add tag to you log
      *
@@ -126,4 +180,14 @@ public final class LogBuilder {
         tags.add(tag);
         put(TAGS, tags);
     }
+
+    /**
+     * Returns {@code true} if this entry should be written to logger. Final decision is taken by
+     * {@link LogSampler#sample(Action, ActivityStatus, boolean)} using current activity status.
+     *
+     * @return {@code true} if entry is sampled
+     */
+    public boolean isSampled() {
+        return logSampler.sample(action, activityStatus, sampled);
+    }
 }
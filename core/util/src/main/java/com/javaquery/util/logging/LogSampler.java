@@ -0,0 +1,70 @@
+package com.javaquery.util.logging;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ *
+ * Decides whether {@link LogBuilder} entry of an {@link Action} should be logged.
+ * Register sampler per action using {@link LogSampling#register(Action, LogSampler)}.
+ */
+public interface LogSampler {
+
+    /** Keeps every entry. */
+    LogSampler ALWAYS = action -> true;
+
+    /** Drops every entry. */
+    LogSampler NEVER = action -> false;
+
+    /**
+     * Head decision, taken when {@link LogBuilder} is created.
+     *
+     * @param action the action
+     * @return {@code true} to keep the entry
+     */
+    boolean sample(Action action);
+
+    /**
+     * Final decision, taken when {@link LogBuilder#isSampled()} is called and activity status is known.
+     *
+     * @param action the action
+     * @param activityStatus the activity status, {@code null} if not set
+     * @param sampled the head decision
+     * @return {@code true} to keep the entry
+     */
+    default boolean sample(Action action, ActivityStatus activityStatus, boolean sampled) {
+        return sampled;
+    }
+
+    /**
+     * Keeps given fraction of entries.
+     * example: fixedRate(0.1) keeps ~10% entries
+     *
+     * @param rate fraction between 0 and 1
+     * @return the log sampler
+     */
+    static LogSampler fixedRate(double rate) {
+        return new FixedRateLogSampler(rate);
+    }
+
+    /**
+     * Keeps at most {@code permitsPerSecond} entries per second with bursts up to {@code burst} entries.
+     *
+     * @param permitsPerSecond entries allowed per second
+     * @param burst entries allowed at once
+     * @return the log sampler
+     */
+    static LogSampler tokenBucket(double permitsPerSecond, int burst) {
+        return new TokenBucketLogSampler(permitsPerSecond, burst);
+    }
+
+    /**
+     * Uses {@code delegate} for head decision but always keeps {@link ActivityStatus#FAILED} and
+     * {@link ActivityStatus#COMPLETED_WITH_ERROR} entries.
+     *
+     * @param delegate sampler for head decision
+     * @return the log sampler
+     */
+    static LogSampler tail(LogSampler delegate) {
+        return new TailLogSampler(delegate);
+    }
+}
@@ -0,0 +1,59 @@
+package com.javaquery.util.logging;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ *
+ * Registry of {@link LogSampler} keyed by {@link Action}. Actions without sampler use default sampler,
+ * which is {@link LogSampler#ALWAYS} unless changed.
+ */
+public final class LogSampling {
+
+    private static final ConcurrentMap<Action, LogSampler> SAMPLERS = new ConcurrentHashMap<>();
+    private static volatile LogSampler defaultSampler = LogSampler.ALWAYS;
+
+    private LogSampling() {}
+
+    /**
+     * Register sampler for action.
+     *
+     * @param action the action
+     * @param logSampler the log sampler
+     */
+    public static void register(Action action, LogSampler logSampler) {
+        SAMPLERS.put(Objects.requireNonNull(action), Objects.requireNonNull(logSampler));
+    }
+
+    /**
+     * Remove sampler of action, action falls back to default sampler.
+     *
+     * @param action the action
+     */
+    public static void unregister(Action action) {
+        SAMPLERS.remove(action);
+    }
+
+    /**
+     * Sets sampler for actions without sampler of their own.
+     *
+     * @param logSampler the log sampler
+     */
+    public static void setDefaultSampler(LogSampler logSampler) {
+        defaultSampler = Objects.requireNonNull(logSampler);
+    }
+
+    /**
+     * Get sampler of action.
+     *
+     * @param action the action
+     * @return registered sampler or default sampler
+     */
+    public static LogSampler sampler(Action action) {
+        LogSampler logSampler = action == null ? null : SAMPLERS.get(action);
+        return logSampler == null ? defaultSampler : logSampler;
+    }
+}
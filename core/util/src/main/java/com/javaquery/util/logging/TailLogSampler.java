@@ -0,0 +1,31 @@
+package com.javaquery.util.logging;
+
+import java.util.Objects;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ *
+ * Uses delegate for head decision but always keeps {@link ActivityStatus#FAILED} and
+ * {@link ActivityStatus#COMPLETED_WITH_ERROR} entries.
+ */
+final class TailLogSampler implements LogSampler {
+
+    private final LogSampler delegate;
+
+    TailLogSampler(LogSampler delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public boolean sample(Action action) {
+        return delegate.sample(action);
+    }
+
+    @Override
+    public boolean sample(Action action, ActivityStatus activityStatus, boolean sampled) {
+        return activityStatus == ActivityStatus.FAILED
+                || activityStatus == ActivityStatus.COMPLETED_WITH_ERROR
+                || delegate.sample(action, activityStatus, sampled);
+    }
+}
@@ -0,0 +1,47 @@
+package com.javaquery.util.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ *
+ * Lock-free token bucket implemented as generic cell rate algorithm, single {@link AtomicLong} holds the
+ * time at which bucket will be full again. Interval and burst are clamped to {@link #MAX_NANOS} so time
+ * arithmetic doesn't overflow for very small rates.
+ */
+final class TokenBucketLogSampler implements LogSampler {
+
+    private static final long MAX_NANOS = Long.MAX_VALUE / 4;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    TokenBucketLogSampler(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.intervalNanos =
+                Math.min(MAX_NANOS, Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond)));
+        this.burstNanos = burst > MAX_NANOS / intervalNanos ? MAX_NANOS : intervalNanos * burst;
+        this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public boolean sample(Action action) {
+        long now = System.nanoTime();
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            /* nanoTime values compared by difference, they may wrap */
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.javaquery.util.metrics;
+
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.ActivityStatus;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters per {@link ActivityStatus} and latency histogram of single {@link Action}.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class ActionMetrics {
+
+    private static final ActivityStatus[] STATUSES = ActivityStatus.values();
+
+    private final Action action;
+    private final LongAdder[] statusCounters;
+    private final LatencyHistogram latency;
+
+    ActionMetrics(Action action) {
+        this.action = action;
+        this.statusCounters = new LongAdder[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            statusCounters[i] = new LongAdder();
+        }
+        this.latency = new LatencyHistogram();
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    /**
+     * Increment counter of given status.
+     *
+     * @param activityStatus the activity status
+     */
+    public void increment(ActivityStatus activityStatus) {
+        statusCounters[activityStatus.ordinal()].increment();
+    }
+
+    /**
+     * Record latency of the action.
+     *
+     * @param durationNanos duration in nanoseconds
+     */
+    public void recordLatency(long durationNanos) {
+        latency.record(durationNanos);
+    }
+
+    /**
+     * Take point-in-time copy of counters and latency histogram.
+     *
+     * @return the action metrics snapshot
+     */
+    public ActionMetricsSnapshot snapshot() {
+        Map<ActivityStatus, Long> counts = new EnumMap<>(ActivityStatus.class);
+        for (int i = 0; i < STATUSES.length; i++) {
+            counts.put(STATUSES[i], statusCounters[i].sum());
+        }
+        return new ActionMetricsSnapshot(action, counts, latency.snapshot());
+    }
+}
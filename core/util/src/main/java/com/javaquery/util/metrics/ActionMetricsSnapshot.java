@@ -0,0 +1,52 @@
+package com.javaquery.util.metrics;
+
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.ActivityStatus;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable point-in-time view of {@link ActionMetrics}.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class ActionMetricsSnapshot {
+
+    private final Action action;
+    private final Map<ActivityStatus, Long> counts;
+    private final HistogramSnapshot latency;
+
+    ActionMetricsSnapshot(Action action, Map<ActivityStatus, Long> counts, HistogramSnapshot latency) {
+        this.action = action;
+        this.counts = Collections.unmodifiableMap(counts);
+        this.latency = latency;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public Map<ActivityStatus, Long> getCounts() {
+        return counts;
+    }
+
+    /**
+     * Get count of given status.
+     *
+     * @param activityStatus the activity status
+     * @return the count
+     */
+    public long getCount(ActivityStatus activityStatus) {
+        return counts.getOrDefault(activityStatus, 0L);
+    }
+
+    public HistogramSnapshot getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "ActionMetricsSnapshot{" + "action=" + action + ", counts=" + counts + ", latency=" + latency + '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.javaquery.util.metrics;
+
+/**
+ * Immutable point-in-time view of {@link LatencyHistogram}. All values are in nanoseconds.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long min, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Value at the given percentile. Returned value is the highest value of the bucket the percentile
+     * falls in, capped at {@link #getMax()}.
+     * example: getValueAtPercentile(99.9) = p999
+     *
+     * @param percentile percentile between 0 and 100
+     * @return value at percentile or 0 when snapshot is empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        double boundedPercentile = Math.max(0, Math.min(100, percentile));
+        long rank = Math.max(1, (long) Math.ceil(boundedPercentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{" + "count="
+                + count + ", min="
+                + min + ", max="
+                + max + ", p50="
+                + getP50() + ", p99="
+                + getP99() + ", p999="
+                + getP999() + '}';
+    }
+}
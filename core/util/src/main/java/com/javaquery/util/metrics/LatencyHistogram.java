@@ -0,0 +1,89 @@
+package com.javaquery.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, HDR-style latency histogram.
+ *
+ * <p>Values (nanoseconds) are recorded into log-linear buckets: every power of two is split into
+ * {@value #SUB_BUCKET_COUNT} linear sub-buckets, which keeps the relative error of any reported
+ * percentile below ~1.6%. Values larger than {@link #MAX_TRACKABLE_VALUE} are clamped into the last bucket.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Highest value tracked with full precision, 2^43 - 1 nanoseconds (~2.4 hours). */
+    public static final long MAX_TRACKABLE_VALUE = (1L << 43) - 1;
+
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Record value in histogram. Negative values are ignored.
+     *
+     * @param value the value (nanoseconds)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        long clamped = Math.min(value, MAX_TRACKABLE_VALUE);
+        buckets.incrementAndGet(bucketIndex(clamped));
+        count.increment();
+        sum.add(clamped);
+        min.accumulate(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Take point-in-time copy of the histogram. Concurrent writes may or may not be part of the snapshot.
+     *
+     * @return the histogram snapshot
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new HistogramSnapshot(counts, total, sum.sum(), total == 0 ? 0 : min.get(), total == 0 ? 0 : max.get());
+    }
+
+    /**
+     * Bucket index for the given value.
+     * Values below {@link #SUB_BUCKET_COUNT} have bucket of their own, every power of two above that
+     * is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Highest value that falls in the given bucket.
+     */
+    static long highestValueOf(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = (bucketIndex & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,14 @@
+package com.javaquery.util.metrics;
+
+import java.util.List;
+
+/**
+ * Implement this interface to publish {@link MetricsRegistry} snapshots to your monitoring system.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+    void export(List<ActionMetricsSnapshot> snapshots);
+}
@@ -0,0 +1,164 @@
+package com.javaquery.util.metrics;
+
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.ActivityStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link ActionMetrics} keyed by {@link Action}.
+ * {@link com.javaquery.util.logging.LogBuilder} and {@link com.javaquery.util.ExecutionContext} feed
+ * the {@link #global()} registry automatically. Number of tracked actions is bounded, so {@link Action} instances
+ * created per call, unlike enum constants, can't grow registry without limit; actions beyond it are not recorded.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class MetricsRegistry {
+
+    public static final int DEFAULT_MAX_ACTIONS = 1000;
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final ConcurrentMap<Action, ActionMetrics> metrics = new ConcurrentHashMap<>();
+    private final int maxActions;
+    private volatile boolean enabled = true;
+
+    /**
+     * Registry tracking at most {@link #DEFAULT_MAX_ACTIONS} actions.
+     */
+    public MetricsRegistry() {
+        this(DEFAULT_MAX_ACTIONS);
+    }
+
+    /**
+     * @param maxActions maximum number of tracked actions
+     */
+    public MetricsRegistry(int maxActions) {
+        if (maxActions < 1) {
+            throw new IllegalArgumentException("maxActions must be positive");
+        }
+        this.maxActions = maxActions;
+    }
+
+    /**
+     * Registry used by {@link com.javaquery.util.logging.LogBuilder} and {@link com.javaquery.util.ExecutionContext}.
+     *
+     * @return the global registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable recording. Disabled registry ignores {@link #record} and {@link #increment} calls.
+     *
+     * @param enabled the enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get or create metrics of given action.
+     *
+     * @param action the action
+     * @return the action metrics or {@code null} if action is not tracked yet and registry tracks maximum number of
+     *     actions
+     */
+    public ActionMetrics metrics(Action action) {
+        ActionMetrics actionMetrics = metrics.get(action);
+        if (actionMetrics == null) {
+            // size is checked before insert, concurrent inserts may overshoot it by number of racing threads
+            if (metrics.size() >= maxActions) {
+                return null;
+            }
+            actionMetrics = metrics.computeIfAbsent(action, ActionMetrics::new);
+        }
+        return actionMetrics;
+    }
+
+    /**
+     * Increment status counter and record latency of action.
+     *
+     * @param action the action
+     * @param activityStatus the activity status, counter is not incremented when {@code null}
+     * @param durationNanos duration in nanoseconds
+     */
+    public void record(Action action, ActivityStatus activityStatus, long durationNanos) {
+        if (!enabled || Objects.isNull(action)) {
+            return;
+        }
+        ActionMetrics actionMetrics = metrics(action);
+        if (actionMetrics == null) {
+            return;
+        }
+        if (Objects.nonNull(activityStatus)) {
+            actionMetrics.increment(activityStatus);
+        }
+        actionMetrics.recordLatency(durationNanos);
+    }
+
+    /**
+     * Increment status counter of action.
+     *
+     * @param action the action
+     * @param activityStatus the activity status
+     */
+    public void increment(Action action, ActivityStatus activityStatus) {
+        if (!enabled || Objects.isNull(action) || Objects.isNull(activityStatus)) {
+            return;
+        }
+        ActionMetrics actionMetrics = metrics(action);
+        if (actionMetrics != null) {
+            actionMetrics.increment(activityStatus);
+        }
+    }
+
+    /**
+     * Snapshot of single action.
+     *
+     * @param action the action
+     * @return the action metrics snapshot or {@code null} if nothing recorded for action
+     */
+    public ActionMetricsSnapshot snapshot(Action action) {
+        ActionMetrics actionMetrics = metrics.get(action);
+        return actionMetrics == null ? null : actionMetrics.snapshot();
+    }
+
+    /**
+     * Snapshot of all actions.
+     *
+     * @return the action metrics snapshots
+     */
+    public List<ActionMetricsSnapshot> snapshot() {
+        List<ActionMetricsSnapshot> snapshots = new ArrayList<>(metrics.size());
+        for (ActionMetrics actionMetrics : metrics.values()) {
+            snapshots.add(actionMetrics.snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Publish snapshot of all actions to the exporter.
+     *
+     * @param exporter the exporter
+     */
+    public void export(MetricsExporter exporter) {
+        exporter.export(snapshot());
+    }
+
+    /**
+     * Remove all recorded metrics.
+     */
+    public void clear() {
+        metrics.clear();
+    }
+}
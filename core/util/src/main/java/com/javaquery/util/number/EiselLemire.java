@@ -0,0 +1,134 @@
+package com.javaquery.util.number;
+
+import java.math.BigInteger;
+
+/**
+ * Eisel-Lemire conversion of decimal {@code w * 10^q} to nearest double using 128-bit approximation of
+ * {@code 5^q}, see "Number Parsing at a Gigabyte per Second" by Daniel Lemire. Port of {@code compute_float} of
+ * fast_float for binary64. Returns {@code NaN} when approximation is not precise enough, caller must fall back to
+ * {@link Double#parseDouble(String)} then.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+final class EiselLemire {
+
+    static final int SMALLEST_POWER_OF_TEN = -342;
+    static final int LARGEST_POWER_OF_TEN = 308;
+
+    private static final int MANTISSA_BITS = 52;
+    private static final int MINIMUM_EXPONENT = -1023;
+    private static final int INFINITE_POWER = 0x7FF;
+    private static final long PRECISION_MASK = 0xFFFFFFFFFFFFFFFFL >>> (MANTISSA_BITS + 3);
+
+    /** High and low 64 bits of {@code 5^q} normalized to 128 bits, indexed by {@code q - SMALLEST_POWER_OF_TEN}. */
+    private static final long[] POWERS_OF_FIVE_HIGH;
+
+    private static final long[] POWERS_OF_FIVE_LOW;
+
+    static {
+        int size = LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1;
+        POWERS_OF_FIVE_HIGH = new long[size];
+        POWERS_OF_FIVE_LOW = new long[size];
+        BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+        BigInteger five = BigInteger.valueOf(5);
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+            BigInteger c;
+            if (q < 0) {
+                BigInteger power = five.pow(-q);
+                int z = power.subtract(BigInteger.ONE).bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                if (c.compareTo(two128) >= 0) {
+                    c = c.shiftRight(c.bitLength() - 128);
+                }
+            } else {
+                c = five.pow(q);
+                c = c.bitLength() < 128 ? c.shiftLeft(128 - c.bitLength()) : c.shiftRight(c.bitLength() - 128);
+            }
+            POWERS_OF_FIVE_HIGH[q - SMALLEST_POWER_OF_TEN] = c.shiftRight(64).longValue();
+            POWERS_OF_FIVE_LOW[q - SMALLEST_POWER_OF_TEN] = c.longValue();
+        }
+    }
+
+    private EiselLemire() {}
+
+    /**
+     * @param w unsigned decimal significand, not zero
+     * @param q decimal exponent
+     * @param negative sign of number
+     * @return nearest double or {@code NaN} if it can't be determined
+     */
+    static double toDouble(long w, int q, boolean negative) {
+        if (q < SMALLEST_POWER_OF_TEN) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (q > LARGEST_POWER_OF_TEN) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        int index = q - SMALLEST_POWER_OF_TEN;
+        int leadingZeros = Long.numberOfLeadingZeros(w);
+        w <<= leadingZeros;
+
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE_HIGH[index]);
+        long low = w * POWERS_OF_FIVE_HIGH[index];
+        if ((high & PRECISION_MASK) == PRECISION_MASK) {
+            long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE_LOW[index]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+        if (low == 0xFFFFFFFFFFFFFFFFL && (q < -27 || q > 55)) {
+            return Double.NaN;
+        }
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - MANTISSA_BITS - 3;
+        long mantissa = high >>> shift;
+        int power2 = power(q) + upperBit - leadingZeros - MINIMUM_EXPONENT;
+        if (power2 <= 0) {
+            // subnormal
+            if (-power2 + 1 >= 64) {
+                return negative ? -0.0 : 0.0;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            power2 = mantissa < (1L << MANTISSA_BITS) ? 0 : 1;
+            return assemble(mantissa, power2, negative);
+        }
+        // exact halfway between two doubles, round to even
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (mantissa & 3) == 1) {
+            if ((mantissa << shift) == high) {
+                mantissa &= ~1L;
+            }
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << MANTISSA_BITS)) {
+            mantissa = 1L << MANTISSA_BITS;
+            power2++;
+        }
+        if (power2 >= INFINITE_POWER) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return assemble(mantissa, power2, negative);
+    }
+
+    private static double assemble(long mantissa, int power2, boolean negative) {
+        long bits = (mantissa & ~(1L << MANTISSA_BITS)) | ((long) power2 << MANTISSA_BITS);
+        return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+    }
+
+    /**
+     * {@code floor(log2(10^q)) + 63}.
+     */
+    private static int power(int q) {
+        return (((152170 + 65536) * q) >> 16) + 63;
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
@@ -0,0 +1,425 @@
+package com.javaquery.util.number;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Immutable decimal number stored as {@code long} unscaled value and scale between 0 and 18, for exact money math
+ * without {@link BigDecimal} allocation. Value is {@code unscaledValue / 10^scale}.
+ *
+ * <p>Addition and subtraction keep the larger scale; multiplication and division keep scale of this number and
+ * round with given {@link RoundingMode}. Overflow of {@code long} throws {@link ArithmeticException}, just like
+ * {@link Math#addExact(long, long)}. Use {@link FixedDecimalAccumulator} to sum in hot loops.
+ *
+ * <pre>
+ * FixedDecimal price = FixedDecimal.parse("19.99");
+ * FixedDecimal total = price.multiply(FixedDecimal.valueOf(3)).add(FixedDecimal.parse("4.50")); // 64.47
+ * FixedDecimal share = total.divide(FixedDecimal.valueOf(7), RoundingMode.HALF_EVEN); // 9.21
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public final class FixedDecimal implements Comparable<FixedDecimal> {
+
+    public static final int MAX_SCALE = 18;
+
+    public static final FixedDecimal ZERO = new FixedDecimal(0, 0);
+    public static final FixedDecimal ONE = new FixedDecimal(1, 0);
+
+    static final long[] POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+
+    private final long unscaledValue;
+    private final int scale;
+
+    private FixedDecimal(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+    }
+
+    /**
+     * example: of(1999, 2) = 19.99
+     *
+     * @param unscaledValue the unscaled value
+     * @param scale the scale, between 0 and 18
+     * @return the fixed decimal
+     */
+    public static FixedDecimal of(long unscaledValue, int scale) {
+        return new FixedDecimal(unscaledValue, checkScale(scale));
+    }
+
+    public static FixedDecimal valueOf(long value) {
+        return new FixedDecimal(value, 0);
+    }
+
+    /**
+     * Convert double rounding it to scale with {@link RoundingMode#HALF_UP}, same as
+     * {@link Numbers#roundDecimal(double, int)}.
+     * example: valueOf(1.005, 2) = 1.01
+     *
+     * @param value the value
+     * @param scale the scale, between 0 and 18
+     * @return the fixed decimal
+     * @throws ArithmeticException if value is not finite or doesn't fit in scale
+     */
+    public static FixedDecimal valueOf(double value, int scale) {
+        checkScale(scale);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new ArithmeticException("Not a finite number: " + value);
+        }
+        return new FixedDecimal(Numbers.roundDecimalUnscaled(value, scale), scale);
+    }
+
+    /**
+     * @param value the value
+     * @return the fixed decimal with scale of value
+     * @throws ArithmeticException if value doesn't fit in long or scale is outside 0 to 18
+     */
+    public static FixedDecimal valueOf(BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0) {
+            value = value.setScale(0, RoundingMode.UNNECESSARY);
+            scale = 0;
+        }
+        if (scale > MAX_SCALE) {
+            throw new ArithmeticException("Scale " + scale + " exceeds " + MAX_SCALE);
+        }
+        return new FixedDecimal(value.unscaledValue().longValueExact(), scale);
+    }
+
+    /**
+     * Parse plain decimal number in single pass, scale is the number of fraction digits.
+     * example: parse("-12.340") = -12.340 (scale 3)
+     *
+     * @param value the value, optional sign followed by digits with optional decimal point
+     * @return the fixed decimal
+     * @throws NumberFormatException if value is not a plain decimal number, has more than 18 fraction digits or
+     *     doesn't fit in long
+     */
+    public static FixedDecimal parse(CharSequence value) {
+        FixedDecimal decimal = Numbers.parseDecimal(value, null);
+        if (decimal == null) {
+            throw new NumberFormatException("Invalid decimal \"" + value + "\"");
+        }
+        return decimal;
+    }
+
+    /**
+     * Parse plain decimal number and round it to scale.
+     * example: parse("2.345", 2, RoundingMode.HALF_EVEN) = 2.34
+     *
+     * @param value the value
+     * @param scale the scale, between 0 and 18
+     * @param roundingMode the rounding mode
+     * @return the fixed decimal
+     */
+    public static FixedDecimal parse(CharSequence value, int scale, RoundingMode roundingMode) {
+        return parse(value).setScale(scale, roundingMode);
+    }
+
+    public long getUnscaledValue() {
+        return unscaledValue;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public int signum() {
+        return Long.signum(unscaledValue);
+    }
+
+    public FixedDecimal negate() {
+        return new FixedDecimal(Math.negateExact(unscaledValue), scale);
+    }
+
+    public FixedDecimal abs() {
+        return unscaledValue < 0 ? negate() : this;
+    }
+
+    public FixedDecimal add(FixedDecimal other) {
+        if (scale == other.scale) {
+            return new FixedDecimal(Math.addExact(unscaledValue, other.unscaledValue), scale);
+        }
+        return add(other.unscaledValue, other.scale);
+    }
+
+    public FixedDecimal subtract(FixedDecimal other) {
+        if (scale == other.scale) {
+            return new FixedDecimal(Math.subtractExact(unscaledValue, other.unscaledValue), scale);
+        }
+        if (other.unscaledValue == Long.MIN_VALUE) {
+            return valueOf(toBigDecimal().subtract(other.toBigDecimal()));
+        }
+        return add(-other.unscaledValue, other.scale);
+    }
+
+    public FixedDecimal multiply(long multiplier) {
+        return new FixedDecimal(Math.multiplyExact(unscaledValue, multiplier), scale);
+    }
+
+    /**
+     * Multiply keeping scale of this number, product is rounded using {@link RoundingMode#HALF_UP}.
+     *
+     * @param multiplier the multiplier
+     * @return the product
+     */
+    public FixedDecimal multiply(FixedDecimal multiplier) {
+        return multiply(multiplier, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Multiply keeping scale of this number.
+     * example: 2.50 multiply 0.05 = 0.12 (HALF_EVEN) or 0.13 (HALF_UP)
+     *
+     * @param multiplier the multiplier
+     * @param roundingMode the rounding mode
+     * @return the product
+     */
+    public FixedDecimal multiply(FixedDecimal multiplier, RoundingMode roundingMode) {
+        return new FixedDecimal(
+                multiplyUnscaled(unscaledValue, multiplier.unscaledValue, multiplier.scale, roundingMode), scale);
+    }
+
+    /**
+     * Divide keeping scale of this number.
+     * example: 10.00 divide 3 = 3.33
+     *
+     * @param divisor the divisor
+     * @param roundingMode the rounding mode
+     * @return the quotient
+     * @throws ArithmeticException if divisor is zero
+     */
+    public FixedDecimal divide(FixedDecimal divisor, RoundingMode roundingMode) {
+        if (divisor.unscaledValue == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long power = POWERS_OF_TEN[divisor.scale];
+        long dividend = unscaledValue * power;
+        if (Math.multiplyHigh(unscaledValue, power) == dividend >> 63) {
+            return new FixedDecimal(divide(dividend, divisor.unscaledValue, roundingMode), scale);
+        }
+        return new FixedDecimal(
+                toBigDecimal()
+                        .divide(divisor.toBigDecimal(), scale, roundingMode)
+                        .unscaledValue()
+                        .longValueExact(),
+                scale);
+    }
+
+    public FixedDecimal divide(long divisor, RoundingMode roundingMode) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        return new FixedDecimal(divide(unscaledValue, divisor, roundingMode), scale);
+    }
+
+    /**
+     * Change scale, rounding when scale is reduced.
+     * example: 2.345 setScale(2, HALF_UP) = 2.35, setScale(2, HALF_EVEN) = 2.34
+     *
+     * @param newScale the new scale, between 0 and 18
+     * @param roundingMode the rounding mode
+     * @return the fixed decimal
+     */
+    public FixedDecimal setScale(int newScale, RoundingMode roundingMode) {
+        checkScale(newScale);
+        if (newScale == scale) {
+            return this;
+        }
+        if (newScale > scale) {
+            return new FixedDecimal(rescale(unscaledValue, scale, newScale), newScale);
+        }
+        return new FixedDecimal(divide(unscaledValue, POWERS_OF_TEN[scale - newScale], roundingMode), newScale);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    /**
+     * @return nearest double, same as {@code toBigDecimal().doubleValue()}
+     */
+    public double doubleValue() {
+        if (Math.abs(unscaledValue) < (1L << 53)) {
+            return unscaledValue / (double) POWERS_OF_TEN[scale];
+        }
+        return toBigDecimal().doubleValue();
+    }
+
+    /**
+     * Compare numeric value, 2.0 and 2.00 are equal.
+     */
+    @Override
+    public int compareTo(FixedDecimal other) {
+        if (scale == other.scale) {
+            return Long.compare(unscaledValue, other.unscaledValue);
+        }
+        long power = POWERS_OF_TEN[Math.abs(scale - other.scale)];
+        long value = scale < other.scale ? unscaledValue : other.unscaledValue;
+        long scaled = value * power;
+        if (Math.multiplyHigh(value, power) != scaled >> 63) {
+            return toBigDecimal().compareTo(other.toBigDecimal());
+        }
+        return scale < other.scale ? Long.compare(scaled, other.unscaledValue) : Long.compare(unscaledValue, scaled);
+    }
+
+    /**
+     * Same as {@link BigDecimal#equals(Object)}, 2.0 and 2.00 are not equal. Use {@link #compareTo} to compare
+     * numeric value.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FixedDecimal)) {
+            return false;
+        }
+        FixedDecimal that = (FixedDecimal) o;
+        return unscaledValue == that.unscaledValue && scale == that.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(unscaledValue, scale);
+    }
+
+    /**
+     * @return plain representation, e.g. -0.05
+     */
+    @Override
+    public String toString() {
+        if (scale == 0) {
+            return Long.toString(unscaledValue);
+        }
+        StringBuilder builder = new StringBuilder(24);
+        if (unscaledValue < 0) {
+            builder.append('-');
+        }
+        String digits = unscaledValue == Long.MIN_VALUE
+                ? Long.toString(unscaledValue).substring(1)
+                : Long.toString(Math.abs(unscaledValue));
+        int integerDigits = digits.length() - scale;
+        if (integerDigits <= 0) {
+            builder.append("0.");
+            for (int i = integerDigits; i < 0; i++) {
+                builder.append('0');
+            }
+            builder.append(digits);
+        } else {
+            builder.append(digits, 0, integerDigits).append('.').append(digits, integerDigits, digits.length());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Add numbers of different scales, operand with smaller scale may overflow when rescaled even though sum fits.
+     */
+    private FixedDecimal add(long otherUnscaledValue, int otherScale) {
+        int resultScale = Math.max(scale, otherScale);
+        long power = POWERS_OF_TEN[Math.abs(scale - otherScale)];
+        long value = scale < otherScale ? unscaledValue : otherUnscaledValue;
+        long scaled = value * power;
+        if (Math.multiplyHigh(value, power) != scaled >> 63) {
+            return valueOf(toBigDecimal().add(BigDecimal.valueOf(otherUnscaledValue, otherScale)));
+        }
+        return new FixedDecimal(
+                Math.addExact(scaled, scale < otherScale ? otherUnscaledValue : unscaledValue), resultScale);
+    }
+
+    static int checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("scale must be between 0 and " + MAX_SCALE);
+        }
+        return scale;
+    }
+
+    static long rescale(long unscaledValue, int scale, int newScale) {
+        return scale == newScale ? unscaledValue : Math.multiplyExact(unscaledValue, POWERS_OF_TEN[newScale - scale]);
+    }
+
+    /**
+     * {@code value * multiplier / 10^multiplierScale} rounded, {@link BigDecimal} is used only when product
+     * overflows long.
+     */
+    static long multiplyUnscaled(long value, long multiplier, int multiplierScale, RoundingMode roundingMode) {
+        long product = value * multiplier;
+        if (Math.multiplyHigh(value, multiplier) == product >> 63) {
+            return divide(product, POWERS_OF_TEN[multiplierScale], roundingMode);
+        }
+        return BigDecimal.valueOf(value)
+                .multiply(BigDecimal.valueOf(multiplier))
+                .divide(BigDecimal.valueOf(POWERS_OF_TEN[multiplierScale]), 0, roundingMode)
+                .longValueExact();
+    }
+
+    /**
+     * {@code dividend / divisor} rounded with rounding mode.
+     */
+    static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        if (dividend == Long.MIN_VALUE && divisor == -1) {
+            throw new ArithmeticException("long overflow");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        boolean increment;
+        switch (roundingMode) {
+            case UP:
+                increment = true;
+                break;
+            case DOWN:
+                increment = false;
+                break;
+            case CEILING:
+                increment = sign > 0;
+                break;
+            case FLOOR:
+                increment = sign < 0;
+                break;
+            case HALF_UP:
+            case HALF_DOWN:
+            case HALF_EVEN:
+                // compare |remainder| with |divisor| - |remainder| to avoid overflow of 2 * remainder
+                long absRemainder = Math.abs(remainder);
+                long other = Math.abs(divisor) - absRemainder;
+                if (absRemainder > other) {
+                    increment = true;
+                } else if (absRemainder < other) {
+                    increment = false;
+                } else {
+                    increment = roundingMode == RoundingMode.HALF_UP
+                            || (roundingMode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+                }
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return increment ? quotient + sign : quotient;
+    }
+}
@@ -0,0 +1,159 @@
+package com.javaquery.util.number;
+
+import java.math.RoundingMode;
+
+/**
+ * Mutable sum of {@link FixedDecimal}s with fixed scale for hot loops, nothing is allocated until {@link #get()}.
+ * Values with larger scale are rounded using rounding mode of accumulator before they are added. Not thread-safe,
+ * use one accumulator per thread and {@link #add(FixedDecimalAccumulator)} them.
+ *
+ * <pre>
+ * FixedDecimalAccumulator revenue = new FixedDecimalAccumulator(2);
+ * for (OrderLine line : lines) {
+ *     revenue.addProduct(line.getPrice(), line.getQuantity());
+ * }
+ * FixedDecimal total = revenue.get();
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class FixedDecimalAccumulator {
+
+    private final int scale;
+    private final RoundingMode roundingMode;
+    private long unscaledValue;
+    private long count;
+
+    /**
+     * Accumulator that rounds using {@link RoundingMode#HALF_UP}.
+     *
+     * @param scale the scale, between 0 and 18
+     */
+    public FixedDecimalAccumulator(int scale) {
+        this(scale, RoundingMode.HALF_UP);
+    }
+
+    public FixedDecimalAccumulator(int scale, RoundingMode roundingMode) {
+        this.scale = FixedDecimal.checkScale(scale);
+        this.roundingMode = roundingMode;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return number of values added
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return unscaled value of sum
+     */
+    public long getUnscaledValue() {
+        return unscaledValue;
+    }
+
+    /**
+     * Add value.
+     *
+     * @param value the value
+     * @return the fixed decimal accumulator
+     * @throws ArithmeticException if sum overflows long
+     */
+    public FixedDecimalAccumulator add(FixedDecimal value) {
+        return addUnscaled(value.getUnscaledValue(), value.getScale());
+    }
+
+    /**
+     * Add value given as unscaled long and its scale, e.g. price column stored in cents.
+     *
+     * @param unscaledValue the unscaled value
+     * @param valueScale the scale of value, between 0 and 18
+     * @return the fixed decimal accumulator
+     */
+    public FixedDecimalAccumulator addUnscaled(long unscaledValue, int valueScale) {
+        FixedDecimal.checkScale(valueScale);
+        long value = valueScale <= scale
+                ? FixedDecimal.rescale(unscaledValue, valueScale, scale)
+                : FixedDecimal.divide(
+                        unscaledValue, FixedDecimal.POWERS_OF_TEN[valueScale - scale], roundingMode);
+        this.unscaledValue = Math.addExact(this.unscaledValue, value);
+        count++;
+        return this;
+    }
+
+    /**
+     * Add {@code value * multiplier}, e.g. price * quantity.
+     *
+     * @param value the value
+     * @param multiplier the multiplier
+     * @return the fixed decimal accumulator
+     */
+    public FixedDecimalAccumulator addProduct(FixedDecimal value, long multiplier) {
+        return addUnscaled(Math.multiplyExact(value.getUnscaledValue(), multiplier), value.getScale());
+    }
+
+    /**
+     * Add {@code value * multiplier}, e.g. amount * tax rate. Product is rounded once to scale of accumulator.
+     *
+     * @param value the value
+     * @param multiplier the multiplier
+     * @return the fixed decimal accumulator
+     */
+    public FixedDecimalAccumulator addProduct(FixedDecimal value, FixedDecimal multiplier) {
+        int productScale = value.getScale() + multiplier.getScale();
+        if (productScale <= scale) {
+            long product = Math.multiplyExact(value.getUnscaledValue(), multiplier.getUnscaledValue());
+            return addUnscaled(product, productScale);
+        }
+        long product;
+        if (productScale - scale <= FixedDecimal.MAX_SCALE) {
+            product = FixedDecimal.multiplyUnscaled(
+                    value.getUnscaledValue(), multiplier.getUnscaledValue(), productScale - scale, roundingMode);
+        } else {
+            product = value.toBigDecimal()
+                    .multiply(multiplier.toBigDecimal())
+                    .setScale(scale, roundingMode)
+                    .unscaledValue()
+                    .longValueExact();
+        }
+        return addUnscaled(product, scale);
+    }
+
+    /**
+     * Merge sum of other accumulator, for example accumulator of another thread.
+     *
+     * @param other the other accumulator
+     * @return the fixed decimal accumulator
+     */
+    public FixedDecimalAccumulator add(FixedDecimalAccumulator other) {
+        long before = count;
+        addUnscaled(other.unscaledValue, other.scale);
+        count = before + other.count;
+        return this;
+    }
+
+    /**
+     * @return the sum
+     */
+    public FixedDecimal get() {
+        return FixedDecimal.of(unscaledValue, scale);
+    }
+
+    /**
+     * Reset sum and count to zero.
+     */
+    public void reset() {
+        unscaledValue = 0;
+        count = 0;
+    }
+
+    @Override
+    public String toString() {
+        return get().toString();
+    }
+}
@@ -2,6 +2,8 @@ package com.javaquery.util.number;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * @author vicky.thakor
@@ -9,6 +11,15 @@ import java.math.RoundingMode;
  */
 public class Numbers {
 
+    /** Powers of ten that are exact in double. */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    /** Scaled values above this are not rounded using long arithmetic, fraction is too imprecise. */
+    private static final double MAX_SCALED = 1e15;
+
     /**
      * Round the decimal number.
      * example: roundDecimal(10.123456789, 2) = 10.12
@@ -20,8 +31,444 @@ public class Numbers {
      * @return rounded number
      */
     public static Double roundDecimal(Double number, int decimalPlaces) {
+        return roundDecimal(number.doubleValue(), decimalPlaces);
+    }
+
+    /**
+     * Round the decimal number using {@link RoundingMode#HALF_UP}, result is the same as
+     * {@code BigDecimal.valueOf(number).setScale(decimalPlaces, RoundingMode.HALF_UP).doubleValue()} but
+     * nothing is allocated in common case. {@code NaN} and infinite numbers are returned as is.
+     * example: roundDecimal(1.005, 2) = 1.01
+     * example: roundDecimal(-2.5, 0) = -3.0
+     *
+     * @param number number to round
+     * @param decimalPlaces decimal places to round
+     * @return rounded number
+     */
+    public static double roundDecimal(double number, int decimalPlaces) {
+        if (decimalPlaces < 0 || decimalPlaces >= POWERS_OF_TEN.length) {
+            return roundDecimalExact(number, decimalPlaces);
+        }
+        return roundDecimal(number, decimalPlaces, POWERS_OF_TEN[decimalPlaces]);
+    }
+
+    /**
+     * Round every number using {@link #roundDecimal(double, int)}.
+     *
+     * @param numbers numbers to round
+     * @param decimalPlaces decimal places to round
+     * @return new array of rounded numbers
+     */
+    public static double[] roundDecimal(double[] numbers, int decimalPlaces) {
+        double[] result = numbers.clone();
+        roundDecimalInPlace(result, decimalPlaces);
+        return result;
+    }
+
+    /**
+     * Round every number using {@link #roundDecimal(double, int)}, array is overwritten with rounded numbers.
+     *
+     * @param numbers numbers to round
+     * @param decimalPlaces decimal places to round
+     */
+    public static void roundDecimalInPlace(double[] numbers, int decimalPlaces) {
+        if (decimalPlaces < 0 || decimalPlaces >= POWERS_OF_TEN.length) {
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = roundDecimalExact(numbers[i], decimalPlaces);
+            }
+            return;
+        }
+        double scale = POWERS_OF_TEN[decimalPlaces];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = roundDecimal(numbers[i], decimalPlaces, scale);
+        }
+    }
+
+    /**
+     * Scale number, round it as long and scale it back. Dividing long by exact power of ten is correctly rounded,
+     * same as {@link BigDecimal#doubleValue()}. Fraction of scaled number carries error of multiplication, so when
+     * it is too close to half to tell whether decimal value is a tie, number is rounded using {@link BigDecimal}.
+     */
+    private static double roundDecimal(double number, int decimalPlaces, double scale) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return number;
+        }
+        long integral = roundScaled(number, scale);
+        if (integral < 0) {
+            return roundDecimalExact(number, decimalPlaces);
+        }
+        double rounded = integral / scale;
+        // + 0.0 turns -0.0 into 0.0, BigDecimal has no negative zero
+        return (number < 0 ? -rounded : rounded) + 0.0;
+    }
+
+    /**
+     * Round the decimal number using {@link RoundingMode#HALF_UP} and return it as unscaled value, same as
+     * {@code BigDecimal.valueOf(number).setScale(decimalPlaces, RoundingMode.HALF_UP).unscaledValue()}. Unlike
+     * scaling result of {@link #roundDecimal(double, int)} back, unscaled value is exact.
+     * example: roundDecimalUnscaled(7.0379465681E8, 7) = 7037946568100000
+     *
+     * @param number finite number to round
+     * @param decimalPlaces decimal places to round, between 0 and 22
+     * @return rounded unscaled value
+     * @throws ArithmeticException if unscaled value doesn't fit in long
+     */
+    static long roundDecimalUnscaled(double number, int decimalPlaces) {
+        long integral = roundScaled(number, POWERS_OF_TEN[decimalPlaces]);
+        if (integral < 0) {
+            return BigDecimal.valueOf(number)
+                    .setScale(decimalPlaces, RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact();
+        }
+        return number < 0 ? -integral : integral;
+    }
+
+    /**
+     * @return absolute value of number scaled and rounded half up, {@code -1} if it can't be rounded using long
+     *     arithmetic
+     */
+    private static long roundScaled(double number, double scale) {
+        double scaled = Math.abs(number) * scale;
+        if (scaled >= MAX_SCALED) {
+            return -1;
+        }
+        long integral = (long) scaled;
+        double fraction = scaled - integral;
+        if (Math.abs(fraction - 0.5) <= 4 * Math.ulp(scaled)) {
+            return -1;
+        }
+        return fraction > 0.5 ? integral + 1 : integral;
+    }
+
+    private static double roundDecimalExact(double number, int decimalPlaces) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return number;
+        }
         return BigDecimal.valueOf(number)
                 .setScale(decimalPlaces, RoundingMode.HALF_UP)
                 .doubleValue();
     }
+
+    /**
+     * Returns {@code true} if value is a plain number, same as {@link com.javaquery.util.Regex#isNumber(String)}
+     * without regular expression: optional minus sign, digits and optional decimal point followed by digits.
+     * example: isNumber("-12.5") = true, isNumber("1e5") = false, isNumber(".5") = false
+     *
+     * @param value the value
+     * @return {@code true} if value is a plain number
+     */
+    public static boolean isNumber(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        int index = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        int digits = index;
+        while (index < length && isDigit(value.charAt(index))) {
+            index++;
+        }
+        if (index == digits) {
+            return false;
+        }
+        if (index < length && value.charAt(index) == '.') {
+            int fraction = ++index;
+            while (index < length && isDigit(value.charAt(index))) {
+                index++;
+            }
+            if (index == fraction) {
+                return false;
+            }
+        }
+        return index == length;
+    }
+
+    /**
+     * Validate and parse int in single pass without throwing.
+     * example: parseInt("-42", 0) = -42, parseInt("4x2", -1) = -1
+     *
+     * @param value optional sign followed by digits
+     * @param defaultValue returned when value is {@code null}, invalid or out of int range
+     * @return parsed value or defaultValue
+     */
+    public static int parseInt(CharSequence value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        return (int) parseLong(value, null, 0, value.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Validate and parse int from ASCII bytes, e.g. a field of CSV line, without throwing.
+     *
+     * @param bytes the bytes
+     * @param offset index of first byte
+     * @param length number of bytes
+     * @param defaultValue returned when bytes are invalid or out of int range
+     * @return parsed value or defaultValue
+     */
+    public static int parseInt(byte[] bytes, int offset, int length, int defaultValue) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int end = offset + length;
+        return (int) parseLong(null, bytes, offset, end, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Validate and parse long in single pass without throwing.
+     * example: parseLong("9223372036854775807", 0) = 9223372036854775807, parseLong("", -1) = -1
+     *
+     * @param value optional sign followed by digits
+     * @param defaultValue returned when value is {@code null}, invalid or out of long range
+     * @return parsed value or defaultValue
+     */
+    public static long parseLong(CharSequence value, long defaultValue) {
+        return value == null
+                ? defaultValue
+                : parseLong(value, null, 0, value.length(), Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Validate and parse long from ASCII bytes without throwing.
+     *
+     * @param bytes the bytes
+     * @param offset index of first byte
+     * @param length number of bytes
+     * @param defaultValue returned when bytes are invalid or out of long range
+     * @return parsed value or defaultValue
+     */
+    public static long parseLong(byte[] bytes, int offset, int length, long defaultValue) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return parseLong(null, bytes, offset, offset + length, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Validate and parse double in single pass without throwing. Result is the same as
+     * {@link Double#parseDouble(String)}; up to 19 significant digits are converted without allocation using
+     * Clinger's fast path or Eisel-Lemire algorithm. Unlike {@link Double#parseDouble(String)}, whitespace,
+     * {@code NaN}, {@code Infinity}, hexadecimal and {@code d}/{@code f} suffix are invalid.
+     * example: parseDouble("-1.5e3", Double.NaN) = -1500.0, parseDouble("1,5", Double.NaN) = NaN
+     *
+     * @param value optional sign, digits with optional decimal point and optional exponent
+     * @param defaultValue returned when value is {@code null} or invalid, {@code Double.NaN} is a good sentinel
+     * @return parsed value or defaultValue
+     */
+    public static double parseDouble(CharSequence value, double defaultValue) {
+        return value == null ? defaultValue : parseDouble(value, null, 0, value.length(), defaultValue);
+    }
+
+    /**
+     * Validate and parse double from ASCII bytes without throwing, see {@link #parseDouble(CharSequence, double)}.
+     *
+     * @param bytes the bytes
+     * @param offset index of first byte
+     * @param length number of bytes
+     * @param defaultValue returned when bytes are invalid
+     * @return parsed value or defaultValue
+     */
+    public static double parseDouble(byte[] bytes, int offset, int length, double defaultValue) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return parseDouble(null, bytes, offset, offset + length, defaultValue);
+    }
+
+    /**
+     * Validate and parse plain decimal without throwing, scale is the number of fraction digits.
+     * example: parseDecimal("-12.340", null) = -12.340 (scale 3)
+     *
+     * @param value optional sign followed by digits with optional decimal point
+     * @param defaultValue returned when value is {@code null}, invalid, has more than 18 fraction digits or
+     *     doesn't fit in long
+     * @return parsed value or defaultValue
+     */
+    public static FixedDecimal parseDecimal(CharSequence value, FixedDecimal defaultValue) {
+        return value == null ? defaultValue : parseDecimal(value, null, 0, value.length(), defaultValue);
+    }
+
+    /**
+     * Validate and parse plain decimal from ASCII bytes without throwing.
+     *
+     * @param bytes the bytes
+     * @param offset index of first byte
+     * @param length number of bytes
+     * @param defaultValue returned when bytes are invalid
+     * @return parsed value or defaultValue
+     */
+    public static FixedDecimal parseDecimal(byte[] bytes, int offset, int length, FixedDecimal defaultValue) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return parseDecimal(null, bytes, offset, offset + length, defaultValue);
+    }
+
+    /**
+     * Character of either CharSequence or byte array, parsers below are shared by both sources.
+     */
+    private static int charAt(CharSequence value, byte[] bytes, int index) {
+        return bytes != null ? bytes[index] : value.charAt(index);
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Accumulates negative value like {@link Long#parseLong(String)}, range of negative long is larger.
+     */
+    private static long parseLong(
+            CharSequence value, byte[] bytes, int index, int end, long min, long max, long defaultValue) {
+        if (index >= end) {
+            return defaultValue;
+        }
+        int first = charAt(value, bytes, index);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (++index == end) {
+                return defaultValue;
+            }
+        }
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = charAt(value, bytes, index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return defaultValue;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static double parseDouble(CharSequence value, byte[] bytes, int start, int end, double defaultValue) {
+        int index = start;
+        if (index >= end) {
+            return defaultValue;
+        }
+        int first = charAt(value, bytes, index);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            index++;
+        }
+        // up to 19 significant digits fit in unsigned long
+        long significand = 0;
+        int significantDigits = 0;
+        long exponent = 0;
+        boolean digits = false;
+        boolean truncated = false;
+        int c;
+        while (index < end && isDigit(c = charAt(value, bytes, index))) {
+            digits = true;
+            if (significantDigits < 19) {
+                significand = significand * 10 + (c - '0');
+                significantDigits += significand == 0 ? 0 : 1;
+            } else {
+                exponent++;
+                truncated |= c != '0';
+            }
+            index++;
+        }
+        if (index < end && charAt(value, bytes, index) == '.') {
+            index++;
+            while (index < end && isDigit(c = charAt(value, bytes, index))) {
+                digits = true;
+                if (significantDigits < 19) {
+                    significand = significand * 10 + (c - '0');
+                    significantDigits += significand == 0 ? 0 : 1;
+                    exponent--;
+                } else {
+                    truncated |= c != '0';
+                }
+                index++;
+            }
+        }
+        if (!digits) {
+            return defaultValue;
+        }
+        if (index < end && (charAt(value, bytes, index) | 0x20) == 'e') {
+            index++;
+            boolean negativeExponent = false;
+            if (index < end && (charAt(value, bytes, index) == '-' || charAt(value, bytes, index) == '+')) {
+                negativeExponent = charAt(value, bytes, index) == '-';
+                index++;
+            }
+            int exponentStart = index;
+            long explicitExponent = 0;
+            while (index < end && isDigit(c = charAt(value, bytes, index))) {
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (c - '0');
+                }
+                index++;
+            }
+            if (index == exponentStart) {
+                return defaultValue;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (index != end) {
+            return defaultValue;
+        }
+
+        if (significand == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (!truncated) {
+            // Clinger's fast path, both operands are exact so the result is correctly rounded
+            if (exponent >= -22 && exponent <= 22 && significand >= 0 && significand <= (1L << 53)) {
+                double result = exponent < 0
+                        ? significand / POWERS_OF_TEN[(int) -exponent]
+                        : significand * POWERS_OF_TEN[(int) exponent];
+                return negative ? -result : result;
+            }
+            int q = (int) Math.max(Math.min(exponent, Integer.MAX_VALUE), Integer.MIN_VALUE);
+            double result = EiselLemire.toDouble(significand, q, negative);
+            if (!Double.isNaN(result)) {
+                return result;
+            }
+        }
+        String text = bytes != null
+                ? new String(bytes, start, end - start, StandardCharsets.ISO_8859_1)
+                : value.subSequence(start, end).toString();
+        return Double.parseDouble(text);
+    }
+
+    private static FixedDecimal parseDecimal(
+            CharSequence value, byte[] bytes, int index, int end, FixedDecimal defaultValue) {
+        if (index >= end) {
+            return defaultValue;
+        }
+        int first = charAt(value, bytes, index);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            index++;
+        }
+        // accumulate negative, range of negative long is larger
+        long unscaledValue = 0;
+        int scale = -1;
+        boolean digits = false;
+        for (; index < end; index++) {
+            int c = charAt(value, bytes, index);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0
+                    || digit > 9
+                    || unscaledValue < Long.MIN_VALUE / 10
+                    || unscaledValue * 10 < Long.MIN_VALUE + digit
+                    || scale >= FixedDecimal.MAX_SCALE) {
+                return defaultValue;
+            }
+            unscaledValue = unscaledValue * 10 - digit;
+            digits = true;
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (!digits || (!negative && unscaledValue == Long.MIN_VALUE)) {
+            return defaultValue;
+        }
+        return FixedDecimal.of(negative ? unscaledValue : -unscaledValue, Math.max(scale, 0));
+    }
 }
@@ -0,0 +1,207 @@
+package com.javaquery.util.resilience;
+
+import com.javaquery.util.ExecutableFunction;
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.LogBuilder;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free concurrency limiter of an {@link Action}. Calls over {@code maxConcurrentCalls} are rejected
+ * immediately with {@link CallNotPermittedException} instead of waiting, so threads don't pile up behind
+ * degraded dependency. Transitions between available and saturated are logged using {@link LogBuilder}; bulkhead
+ * becomes saturated when a call is rejected and available again only when concurrent calls drop to
+ * {@code availableThreshold}, so sustained overload logs one transition instead of one per call.
+ *
+ * <pre>
+ * Bulkhead.register(new Bulkhead(Action.PAYMENT, 20));
+ * Payment payment = Bulkhead.of(Action.PAYMENT).execute(() -&gt; client.pay(request));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class Bulkhead {
+
+    public enum State {
+        AVAILABLE,
+        SATURATED
+    }
+
+    public static final String MAX_CONCURRENT_CALLS = "maxConcurrentCalls";
+
+    private static final ConcurrentMap<Action, Bulkhead> BULKHEADS = new ConcurrentHashMap<>();
+
+    private final Action action;
+    private final int maxConcurrentCalls;
+    private final int availableThreshold;
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicBoolean saturated = new AtomicBoolean();
+    private final AtomicLong transitions = new AtomicLong();
+
+    /**
+     * Bulkhead that permits 25 concurrent calls.
+     *
+     * @param action the action
+     */
+    public Bulkhead(Action action) {
+        this(action, 25);
+    }
+
+    /**
+     * Bulkhead that becomes available again when concurrent calls drop to 75% of {@code maxConcurrentCalls}.
+     *
+     * @param action the action
+     * @param maxConcurrentCalls maximum number of concurrent calls
+     */
+    public Bulkhead(Action action, int maxConcurrentCalls) {
+        this(action, maxConcurrentCalls, maxConcurrentCalls * 3 / 4);
+    }
+
+    /**
+     * @param action the action
+     * @param maxConcurrentCalls maximum number of concurrent calls
+     * @param availableThreshold saturated bulkhead becomes available when concurrent calls drop to this number,
+     *     between 0 and {@code maxConcurrentCalls - 1}
+     */
+    public Bulkhead(Action action, int maxConcurrentCalls, int availableThreshold) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+        if (availableThreshold < 0 || availableThreshold >= maxConcurrentCalls) {
+            throw new IllegalArgumentException("availableThreshold must be between 0 and maxConcurrentCalls - 1");
+        }
+        this.action = Objects.requireNonNull(action);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.availableThreshold = availableThreshold;
+    }
+
+    /**
+     * Register bulkhead, replaces existing bulkhead of the same action.
+     *
+     * @param bulkhead the bulkhead
+     * @return the bulkhead
+     */
+    public static Bulkhead register(Bulkhead bulkhead) {
+        BULKHEADS.put(bulkhead.getAction(), bulkhead);
+        return bulkhead;
+    }
+
+    /**
+     * Get bulkhead of action, bulkhead with default settings is registered if not exists.
+     *
+     * @param action the action
+     * @return the bulkhead
+     */
+    public static Bulkhead of(Action action) {
+        Bulkhead bulkhead = BULKHEADS.get(action);
+        return bulkhead == null ? BULKHEADS.computeIfAbsent(action, Bulkhead::new) : bulkhead;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public State getState() {
+        return saturated.get() ? State.SATURATED : State.AVAILABLE;
+    }
+
+    public int getConcurrentCalls() {
+        return concurrentCalls.get();
+    }
+
+    /**
+     * @return number of transitions between available and saturated
+     */
+    public long getTransitionCount() {
+        return transitions.get();
+    }
+
+    /**
+     * Returns {@code true} if call is permitted. Every permitted call must be followed by {@link #release()}.
+     *
+     * @return {@code true} if call is permitted
+     */
+    public boolean tryAcquirePermission() {
+        while (true) {
+            int current = concurrentCalls.get();
+            if (current >= maxConcurrentCalls) {
+                transition(false, true);
+                return false;
+            }
+            if (concurrentCalls.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release permission acquired by {@link #tryAcquirePermission()}, release without any permission acquired is
+     * ignored.
+     */
+    public void release() {
+        while (true) {
+            int current = concurrentCalls.get();
+            if (current == 0) {
+                return;
+            }
+            if (concurrentCalls.compareAndSet(current, current - 1)) {
+                if (current - 1 <= availableThreshold && saturated.get()) {
+                    transition(true, false);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Execute supplier if call is permitted.
+     *
+     * @param supplier the supplier
+     * @param <R> the type of result
+     * @return the result of supplier
+     * @throws CallNotPermittedException if bulkhead is full
+     */
+    public <R> R execute(Supplier<R> supplier) {
+        if (!tryAcquirePermission()) {
+            throw new CallNotPermittedException("Bulkhead of " + action + " is full");
+        }
+        try {
+            return supplier.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Execute function if call is permitted.
+     *
+     * @param executableFunction the executable function
+     * @throws CallNotPermittedException if bulkhead is full
+     */
+    public void execute(ExecutableFunction executableFunction) {
+        execute(() -> {
+            executableFunction.execute();
+            return null;
+        });
+    }
+
+    private void transition(boolean from, boolean to) {
+        if (!saturated.compareAndSet(from, to)) {
+            return;
+        }
+        transitions.incrementAndGet();
+        LogBuilder logBuilder = TransitionLog.transition(
+                action,
+                Bulkhead.class.getSimpleName(),
+                from ? State.SATURATED : State.AVAILABLE,
+                to ? State.SATURATED : State.AVAILABLE);
+        logBuilder.put(MAX_CONCURRENT_CALLS, maxConcurrentCalls);
+        TransitionLog.write(logBuilder);
+    }
+}
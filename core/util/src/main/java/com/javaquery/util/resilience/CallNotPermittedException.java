@@ -0,0 +1,16 @@
+package com.javaquery.util.resilience;
+
+/**
+ * Thrown when {@link CircuitBreaker} is open or {@link Bulkhead} is full.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,264 @@
+package com.javaquery.util.resilience;
+
+import com.javaquery.util.ExecutableFunction;
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.LogBuilder;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free circuit breaker of an {@link Action}.
+ *
+ * <p>Breaker opens when failure rate of last {@code slidingWindowSize} calls reaches {@code failureRateThreshold}
+ * (evaluated once {@code minimumCalls} are recorded). Open breaker rejects calls with
+ * {@link CallNotPermittedException} until {@code waitDurationInOpenState} elapses, then lets
+ * {@code permittedCallsInHalfOpenState} trial calls through: success closes the breaker, failure opens it again.
+ * Every state transition is logged using {@link LogBuilder}. Outcome of call is recorded only if breaker is still in
+ * state the call was permitted in, calls completing after breaker moved on don't affect new state.
+ *
+ * <pre>
+ * CircuitBreaker.register(new CircuitBreaker(Action.PAYMENT, 0.5, 100, 20, Duration.ofSeconds(30), 1));
+ * Payment payment = CircuitBreaker.of(Action.PAYMENT).execute(() -&gt; client.pay(request));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Permission of calls acquired while breaker is in one state, shared by all of them. Breaker moves to new state by
+     * replacing its permission, so outcome of call holding replaced permission is ignored.
+     */
+    public static final class Permission {
+        private final State state;
+        private final long openedAt;
+        private final SlidingWindow slidingWindow;
+        private final AtomicInteger halfOpenCalls = new AtomicInteger();
+
+        private Permission(State state, long openedAt, SlidingWindow slidingWindow) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.slidingWindow = slidingWindow;
+        }
+    }
+
+    public static final String FAILURE_RATE = "failureRate";
+
+    private static final ConcurrentMap<Action, CircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+
+    private final Action action;
+    private final double failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedCallsInHalfOpenState;
+
+    private final AtomicReference<Permission> permission;
+
+    /**
+     * Circuit breaker that opens at 50% failure rate over last 100 calls (minimum 10), waits 30 seconds
+     * in open state and permits 1 trial call in half-open state.
+     *
+     * @param action the action
+     */
+    public CircuitBreaker(Action action) {
+        this(action, 0.5, 100, 10, Duration.ofSeconds(30), 1);
+    }
+
+    public CircuitBreaker(
+            Action action,
+            double failureRateThreshold,
+            int slidingWindowSize,
+            int minimumCalls,
+            Duration waitDurationInOpenState,
+            int permittedCallsInHalfOpenState) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be between 0 (exclusive) and 1");
+        }
+        if (permittedCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("permittedCallsInHalfOpenState must be positive");
+        }
+        this.action = Objects.requireNonNull(action);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slidingWindowSize = slidingWindowSize;
+        this.permission = new AtomicReference<>(new Permission(State.CLOSED, 0, new SlidingWindow(slidingWindowSize)));
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, slidingWindowSize));
+        this.waitDurationInOpenStateNanos = waitDurationInOpenState.toNanos();
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Register circuit breaker, replaces existing circuit breaker of the same action.
+     *
+     * @param circuitBreaker the circuit breaker
+     * @return the circuit breaker
+     */
+    public static CircuitBreaker register(CircuitBreaker circuitBreaker) {
+        CIRCUIT_BREAKERS.put(circuitBreaker.getAction(), circuitBreaker);
+        return circuitBreaker;
+    }
+
+    /**
+     * Get circuit breaker of action, circuit breaker with default settings is registered if not exists.
+     *
+     * @param action the action
+     * @return the circuit breaker
+     */
+    public static CircuitBreaker of(Action action) {
+        CircuitBreaker circuitBreaker = CIRCUIT_BREAKERS.get(action);
+        return circuitBreaker == null ? CIRCUIT_BREAKERS.computeIfAbsent(action, CircuitBreaker::new) : circuitBreaker;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public State getState() {
+        return permission.get().state;
+    }
+
+    /**
+     * @return failure rate of calls recorded since breaker last closed
+     */
+    public double getFailureRate() {
+        return permission.get().slidingWindow.failureRate();
+    }
+
+    /**
+     * Returns permission if call is permitted. Every permitted call must be followed by
+     * {@link #onSuccess(Permission)} or {@link #onError(Permission)} with returned permission.
+     *
+     * @return the permission or {@code null} if call is not permitted
+     */
+    public Permission tryAcquirePermission() {
+        while (true) {
+            Permission current = permission.get();
+            if (current.state == State.CLOSED) {
+                return current;
+            }
+            if (current.state == State.OPEN) {
+                if (System.nanoTime() - current.openedAt < waitDurationInOpenStateNanos) {
+                    return null;
+                }
+                transition(current, new Permission(State.HALF_OPEN, 0, current.slidingWindow));
+                continue;
+            }
+            int calls = current.halfOpenCalls.get();
+            if (calls < permittedCallsInHalfOpenState) {
+                if (current.halfOpenCalls.compareAndSet(calls, calls + 1)) {
+                    return current;
+                }
+            } else if (permission.get() == current) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Record successful call.
+     *
+     * @param permission the permission call was made with
+     */
+    public void onSuccess(Permission permission) {
+        if (permission.state == State.HALF_OPEN) {
+            transition(permission, new Permission(State.CLOSED, 0, new SlidingWindow(slidingWindowSize)));
+        } else if (permission.state == State.CLOSED && this.permission.get() == permission) {
+            permission.slidingWindow.record(true);
+        }
+    }
+
+    /**
+     * Record failed call.
+     *
+     * @param permission the permission call was made with
+     */
+    public void onError(Permission permission) {
+        if (permission.state == State.HALF_OPEN) {
+            open(permission);
+        } else if (permission.state == State.CLOSED && this.permission.get() == permission) {
+            SlidingWindow slidingWindow = permission.slidingWindow;
+            slidingWindow.record(false);
+            if (slidingWindow.calls() >= minimumCalls && slidingWindow.failureRate() >= failureRateThreshold) {
+                open(permission);
+            }
+        }
+    }
+
+    /**
+     * Execute supplier if call is permitted.
+     *
+     * @param supplier the supplier
+     * @param <R> the type of result
+     * @return the result of supplier
+     * @throws CallNotPermittedException if circuit breaker is open
+     */
+    public <R> R execute(Supplier<R> supplier) {
+        Permission acquired = tryAcquirePermission();
+        if (acquired == null) {
+            throw new CallNotPermittedException("CircuitBreaker of " + action + " is " + getState());
+        }
+        try {
+            R result = supplier.get();
+            onSuccess(acquired);
+            return result;
+        } catch (RuntimeException | Error e) {
+            onError(acquired);
+            throw e;
+        }
+    }
+
+    /**
+     * Execute function if call is permitted.
+     *
+     * @param executableFunction the executable function
+     * @throws CallNotPermittedException if circuit breaker is open
+     */
+    public void execute(ExecutableFunction executableFunction) {
+        execute(() -> {
+            executableFunction.execute();
+            return null;
+        });
+    }
+
+    /**
+     * Time left in open state.
+     *
+     * @return remaining wait in milliseconds, 0 if breaker is not open
+     */
+    public long getRemainingWaitMillis() {
+        Permission current = permission.get();
+        if (current.state != State.OPEN) {
+            return 0;
+        }
+        long remaining = waitDurationInOpenStateNanos - (System.nanoTime() - current.openedAt);
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    private void open(Permission from) {
+        /* failure rate that opened breaker is reported until it closes again */
+        transition(from, new Permission(State.OPEN, System.nanoTime(), from.slidingWindow));
+    }
+
+    private void transition(Permission from, Permission to) {
+        if (!permission.compareAndSet(from, to)) {
+            return;
+        }
+        LogBuilder logBuilder =
+                TransitionLog.transition(action, CircuitBreaker.class.getSimpleName(), from.state, to.state);
+        logBuilder.put(FAILURE_RATE, from.slidingWindow.failureRate());
+        TransitionLog.write(logBuilder);
+    }
+}
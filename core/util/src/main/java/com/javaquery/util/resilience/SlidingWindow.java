@@ -0,0 +1,57 @@
+package com.javaquery.util.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, count based sliding window of last {@code size} call outcomes. Failures are counted as outcomes
+ * enter and leave the window, so reading failure rate is O(1). Failure count never exceeds calls, as slot is taken
+ * before its outcome is counted. Window isn't reset, breaker starts new one instead.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+final class SlidingWindow {
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final int size;
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    SlidingWindow(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.size = size;
+        this.outcomes = new AtomicIntegerArray(size);
+    }
+
+    void record(boolean success) {
+        int index = (int) (cursor.getAndIncrement() % size);
+        int outcome = success ? SUCCESS : FAILURE;
+        int evicted = outcomes.getAndSet(index, outcome);
+        if (evicted != outcome) {
+            failures.addAndGet(outcome == FAILURE ? 1 : evicted == FAILURE ? -1 : 0);
+        }
+    }
+
+    /**
+     * @return number of calls in window
+     */
+    int calls() {
+        return (int) Math.min(cursor.get(), size);
+    }
+
+    /**
+     * @return failure rate between 0 and 1, 0 when window is empty
+     */
+    double failureRate() {
+        int calls = calls();
+        return calls == 0 ? 0 : (double) failures.get() / calls;
+    }
+}
@@ -0,0 +1,45 @@
+package com.javaquery.util.resilience;
+
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.LogBuilder;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * Writes state transitions of {@link CircuitBreaker} and {@link Bulkhead} using {@link LogBuilder}.
+ *
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+final class TransitionLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransitionLog.class);
+
+    static final String COMPONENT = "component";
+    static final String FROM_STATE = "fromState";
+    static final String TO_STATE = "toState";
+
+    private TransitionLog() {}
+
+    static LogBuilder transition(Action action, String component, Object fromState, Object toState) {
+        LogBuilder logBuilder = new LogBuilder(action);
+        logBuilder.put(COMPONENT, component);
+        logBuilder.put(FROM_STATE, fromState);
+        logBuilder.put(TO_STATE, toState);
+        logBuilder.setMessage(component + " " + fromState + " -> " + toState);
+        return logBuilder;
+    }
+
+    static void write(LogBuilder logBuilder) {
+        if (!logBuilder.isSampled() || !LOGGER.isWarnEnabled()) {
+            return;
+        }
+        LoggingEventBuilder event = LOGGER.atWarn();
+        for (Map.Entry<String, Object> entry : logBuilder.getAttributes().entrySet()) {
+            event = event.addKeyValue(entry.getKey(), entry.getValue());
+        }
+        event.log(logBuilder.getMessage());
+    }
+}
@@ -145,6 +145,14 @@ public class TestExecutionContext {
         assertNotNull(executionContext.getCreatedAt());
     }
 
+    @Test
+    public void constructorWithNullMaxRetries() {
+        Integer maxRetries = null;
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(ExecutionContextAction.ONE, maxRetries);
+        assertNull(executionContext.getMaxRetries());
+        assertNull(new ExecutionContext<>(1L, ExecutionContextAction.ONE, maxRetries).getMaxRetries());
+    }
+
     @Test
     public void metaDataTest() {
         ExecutionContext<String, Void> executionContext = new ExecutionContext<>();
@@ -155,4 +163,29 @@ public class TestExecutionContext {
         executionContext.addMeta("key", "value2");
         assertEquals("value2", executionContext.getMeta("key", null));
     }
+
+    @Test
+    public void lazyMeta() {
+        ExecutionContext<String, Void> executionContext = new ExecutionContext<>(ExecutionContextAction.ONE);
+        assertEquals("default", executionContext.getMeta("key", "default"));
+        assertTrue(executionContext.getMeta().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> executionContext.getMeta().put("key", "value"));
+        executionContext.addMeta("key", "value");
+        assertEquals("value", executionContext.getMeta("key", null));
+        executionContext.getMeta().put("key", "value1");
+        assertEquals("value1", executionContext.getMeta("key", null));
+
+        executionContext.setMeta(null);
+        assertNull(executionContext.getMeta("key", null));
+        executionContext.addMeta("key", "value2");
+        assertEquals("value2", executionContext.getMeta("key", null));
+    }
+
+    @Test
+    public void createdAtMillis() {
+        long before = System.currentTimeMillis();
+        ExecutionContext<String, Void> executionContext = new ExecutionContext<>(ExecutionContextAction.ONE);
+        assertTrue(executionContext.getCreatedAtMillis() >= before);
+        assertEquals(executionContext.getCreatedAtMillis(), executionContext.getCreatedAt().getTime());
+    }
 }
@@ -0,0 +1,113 @@
+package com.javaquery.util.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestLruCache {
+
+    @Test
+    public void test_get() {
+        LruCache<Integer, String> cache = new LruCache<>(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Assertions.assertEquals("1", cache.get(1, key -> loads.incrementAndGet() + ""));
+        Assertions.assertEquals("1", cache.get(1, key -> loads.incrementAndGet() + ""));
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals("1", cache.getIfPresent(1).getValue());
+        Assertions.assertFalse(cache.getIfPresent(2).isCached());
+    }
+
+    @Test
+    public void test_negativeCaching() {
+        AtomicInteger loads = new AtomicInteger();
+        LruCache<Integer, String> cache = new LruCache<>(100, Duration.ofMinutes(1));
+        Assertions.assertNull(cache.get(1, key -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        Assertions.assertFalse(cache.getIfPresent(1).isCached());
+
+        cache.withNegativeTimeToLive(Duration.ofMinutes(1));
+        cache.get(1, key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        CacheLookup<String> absent = cache.getIfPresent(1);
+        Assertions.assertTrue(absent.isCached());
+        Assertions.assertFalse(absent.isPresent());
+        Assertions.assertNull(cache.get(1, key -> "loaded"));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void test_timeToLive() throws InterruptedException {
+        LruCache<Integer, String> cache = new LruCache<>(100, Duration.ofMillis(20));
+        cache.put(1, "one");
+        Assertions.assertEquals("one", cache.getIfPresent(1).getValue());
+        Thread.sleep(40);
+        Assertions.assertFalse(cache.getIfPresent(1).isCached());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void test_eviction() {
+        LruCache<Integer, Integer> cache = new LruCache<>(1, Duration.ofMinutes(1));
+        cache.put(1, 1);
+        cache.put(2, 2);
+        Assertions.assertFalse(cache.getIfPresent(1).isCached());
+        Assertions.assertEquals(2, cache.getIfPresent(2).getValue());
+
+        LruCache<Integer, Integer> large = new LruCache<>(1000, Duration.ofMinutes(1));
+        for (int i = 0; i < 10_000; i++) {
+            large.put(i, i);
+        }
+        Assertions.assertTrue(large.size() <= 1000);
+    }
+
+    @Test
+    public void test_leastRecentlyUsed() {
+        LruCache<Integer, Integer> cache = new LruCache<>(2, Duration.ofMinutes(1));
+        // 2 segments of one entry, keys 0, 2 and 4 share a segment
+        cache.put(0, 0);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        Assertions.assertFalse(cache.getIfPresent(0).isCached());
+        Assertions.assertEquals(1, cache.getIfPresent(1).getValue());
+        Assertions.assertEquals(2, cache.getIfPresent(2).getValue());
+    }
+
+    @Test
+    public void test_invalidate() {
+        LruCache<Integer, String> cache = new LruCache<>(100, Duration.ofMinutes(1));
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.invalidate(1);
+        Assertions.assertFalse(cache.getIfPresent(1).isCached());
+        Assertions.assertEquals("two", cache.getIfPresent(2).getValue());
+        cache.invalidateAll();
+        Assertions.assertEquals(0, cache.size());
+
+        // value loaded before invalidation must not be stored
+        Assertions.assertEquals("stale", cache.get(3, key -> {
+            cache.invalidate(3);
+            return "stale";
+        }));
+        Assertions.assertFalse(cache.getIfPresent(3).isCached());
+    }
+
+    @Test
+    public void test_invalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0, Duration.ofMinutes(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LruCache<>(1, Duration.ZERO));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new LruCache<>(1, Duration.ofMinutes(1)).withNegativeTimeToLive(Duration.ofSeconds(-1)));
+    }
+}
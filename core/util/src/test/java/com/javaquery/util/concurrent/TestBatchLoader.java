@@ -0,0 +1,105 @@
+package com.javaquery.util.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestBatchLoader {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    private synchronized Map<Integer, String> load(List<Integer> keys) {
+        batches.add(new ArrayList<>(keys));
+        Map<Integer, String> values = new LinkedHashMap<>();
+        for (Integer key : keys) {
+            if (key >= 0) {
+                values.put(key, "v" + key);
+            }
+        }
+        return values;
+    }
+
+    @Test
+    public void test_dispatch() throws Exception {
+        BatchLoader<Integer, String> batchLoader = new BatchLoader<>(this::load, 100);
+        CompletableFuture<String> one = batchLoader.load(1);
+        CompletableFuture<String> two = batchLoader.load(2);
+        Assertions.assertSame(one, batchLoader.load(1));
+        CompletableFuture<String> missing = batchLoader.load(-1);
+        Assertions.assertFalse(one.isDone());
+        Assertions.assertEquals(3, batchLoader.pending());
+
+        batchLoader.dispatch();
+        Assertions.assertEquals("v1", one.get());
+        Assertions.assertEquals("v2", two.get());
+        Assertions.assertNull(missing.get());
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2, -1)), batches);
+        Assertions.assertEquals(0, batchLoader.pending());
+
+        batchLoader.dispatch();
+        Assertions.assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void test_maxBatchSize() throws Exception {
+        BatchLoader<Integer, String> batchLoader = new BatchLoader<>(this::load, 2);
+        CompletableFuture<Map<Integer, String>> values = batchLoader.loadAll(Arrays.asList(1, 2, 3, 2, -4, 5));
+        // full batches are dispatched while loading
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, -4)), batches);
+        Assertions.assertEquals(1, batchLoader.pending());
+        batchLoader.dispatch();
+        Map<Integer, String> expected = new LinkedHashMap<>();
+        expected.put(1, "v1");
+        expected.put(2, "v2");
+        expected.put(3, "v3");
+        expected.put(5, "v5");
+        Assertions.assertEquals(expected, values.get());
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 5), new ArrayList<>(values.get().keySet()));
+    }
+
+    @Test
+    public void test_dispatchDelay() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            BatchLoader<Integer, String> batchLoader =
+                    new BatchLoader<>(this::load, 100).withDispatchDelay(scheduler, Duration.ofMillis(20));
+            CompletableFuture<String> one = batchLoader.load(1);
+            CompletableFuture<String> two = batchLoader.load(2);
+            Assertions.assertEquals("v1", one.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("v2", two.get(5, TimeUnit.SECONDS));
+            synchronized (this) {
+                Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2)), batches);
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_batchFunctionFailure() {
+        BatchLoader<Integer, String> batchLoader = new BatchLoader<>(
+                keys -> {
+                    throw new IllegalStateException("database unavailable");
+                },
+                10);
+        CompletableFuture<String> one = batchLoader.load(1);
+        batchLoader.dispatch();
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, one::get);
+        Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BatchLoader<>(this::load, 0));
+    }
+}
@@ -0,0 +1,149 @@
+package com.javaquery.util.concurrent;
+
+import com.javaquery.util.ExecutionContext;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestExecutableFunctionBatch {
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void test_execute() throws Exception {
+        ExecutableFunctionBatch batch = new ExecutableFunctionBatch(executorService);
+        AtomicInteger executed = new AtomicInteger();
+        batch.defer(executed::incrementAndGet);
+        batch.defer(executed::incrementAndGet);
+        batch.defer("key", executed::incrementAndGet);
+        batch.defer("key", executed::incrementAndGet);
+        Assertions.assertEquals(3, batch.size());
+        Assertions.assertEquals(0, executed.get());
+
+        batch.execute().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(3, executed.get());
+        Assertions.assertEquals(0, batch.size());
+    }
+
+    @Test
+    public void test_executionContext() throws Exception {
+        ExecutableFunctionBatch batch = new ExecutableFunctionBatch(executorService);
+        Queue<String> requestIds = new ConcurrentLinkedQueue<>();
+        ExecutionContextHolder.set(new ExecutionContext<>("batch"));
+        batch.defer(() -> requestIds.add(ExecutionContextHolder.get().getRequestId()));
+        ExecutionContextHolder.clear();
+
+        batch.execute().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals("batch", requestIds.peek());
+    }
+
+    @Test
+    public void test_executeAfter() throws Exception {
+        ExecutableFunctionBatch batch = new ExecutableFunctionBatch(executorService);
+        AtomicInteger executed = new AtomicInteger();
+        batch.defer(executed::incrementAndGet);
+        CompletableFuture<Void> commit = new CompletableFuture<>();
+        CompletableFuture<Void> result = batch.executeAfter(commit);
+        Assertions.assertEquals(0, executed.get());
+        commit.complete(null);
+        result.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, executed.get());
+
+        batch.defer(executed::incrementAndGet);
+        CompletableFuture<Void> rollback = batch.executeAfter(
+                CompletableFuture.failedFuture(new IllegalStateException("rollback")));
+        Assertions.assertThrows(ExecutionException.class, () -> rollback.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executed.get());
+        Assertions.assertEquals(0, batch.size());
+    }
+
+    @Test
+    public void test_executeAfterSnapshot() throws Exception {
+        ExecutableFunctionBatch batch = new ExecutableFunctionBatch(executorService);
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger later = new AtomicInteger();
+        batch.defer(committed::incrementAndGet);
+        CompletableFuture<Void> commit = new CompletableFuture<>();
+        CompletableFuture<Void> result = batch.executeAfter(commit);
+
+        // deferred by another unit of work after executeAfter
+        batch.defer(later::incrementAndGet);
+        commit.complete(null);
+        result.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, committed.get());
+        Assertions.assertEquals(0, later.get());
+        Assertions.assertEquals(1, batch.size());
+
+        CompletableFuture<Void> rollback = new CompletableFuture<>();
+        CompletableFuture<Void> rolledBack = batch.executeAfter(rollback);
+        batch.defer(later::incrementAndGet);
+        rollback.completeExceptionally(new IllegalStateException("rollback"));
+        Assertions.assertThrows(ExecutionException.class, () -> rolledBack.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, batch.size());
+        batch.execute().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, later.get());
+    }
+
+    @Test
+    public void test_rejected() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        Executor executor = task -> {
+            if (accepted.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("full");
+            }
+            task.run();
+        };
+        ExecutableFunctionBatch batch = new ExecutableFunctionBatch(executor);
+        AtomicInteger executed = new AtomicInteger();
+        batch.defer("first", executed::incrementAndGet);
+        batch.defer("second", executed::incrementAndGet);
+        batch.defer("third", executed::incrementAndGet);
+        Assertions.assertThrows(ExecutionException.class, () -> batch.execute().get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executed.get());
+
+        // rejected functions are deferred again, ahead of newer ones and coalesced with them
+        batch.defer("second", () -> executed.addAndGet(100));
+        batch.defer("fourth", executed::incrementAndGet);
+        Assertions.assertEquals(3, batch.size());
+        accepted.set(-10);
+        batch.execute().get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(4, executed.get());
+    }
+
+    @Test
+    public void test_failure() {
+        ExecutableFunctionBatch batch = new ExecutableFunctionBatch(executorService);
+        AtomicInteger executed = new AtomicInteger();
+        batch.defer(() -> {
+            throw new IllegalStateException("failed");
+        });
+        batch.defer(executed::incrementAndGet);
+        Assertions.assertThrows(ExecutionException.class, () -> batch.execute().get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executed.get());
+    }
+}
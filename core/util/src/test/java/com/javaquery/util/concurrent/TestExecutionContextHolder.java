@@ -0,0 +1,96 @@
+package com.javaquery.util.concurrent;
+
+import com.javaquery.util.ExecutionContext;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestExecutionContextHolder {
+
+    @Test
+    public void test_runWith() throws Exception {
+        ExecutionContext<Long, Void> outer = new ExecutionContext<>("outer");
+        ExecutionContext<Long, Void> inner = new ExecutionContext<>("inner");
+        ExecutionContextHolder.set(outer);
+        ExecutionContextHolder.runWith(
+                inner, () -> Assertions.assertEquals("inner", ExecutionContextHolder.get().getRequestId()));
+        Assertions.assertEquals(
+                "inner", ExecutionContextHolder.callWith(inner, () -> ExecutionContextHolder.get().getRequestId()));
+        Assertions.assertSame(outer, ExecutionContextHolder.get());
+        ExecutionContextHolder.clear();
+        Assertions.assertNull(ExecutionContextHolder.get());
+    }
+
+    @Test
+    public void test_wrap() throws Exception {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>("wrap");
+        ExecutionContextHolder.set(executionContext);
+        Runnable runnable = ExecutionContextHolder.wrap(
+                () -> Assertions.assertSame(executionContext, ExecutionContextHolder.get()));
+        Callable<String> callable =
+                ExecutionContextHolder.wrap(() -> ExecutionContextHolder.get().getRequestId());
+        Supplier<String> supplier =
+                ExecutionContextHolder.wrapSupplier(() -> ExecutionContextHolder.get().getRequestId());
+        Function<String, String> function =
+                ExecutionContextHolder.wrapFunction(s -> s + ExecutionContextHolder.get().getRequestId());
+        ExecutionContextHolder.clear();
+
+        runnable.run();
+        Assertions.assertEquals("wrap", callable.call());
+        Assertions.assertEquals("wrap", supplier.get());
+        Assertions.assertEquals("-wrap", function.apply("-"));
+        Assertions.assertNull(ExecutionContextHolder.get());
+    }
+
+    @Test
+    public void test_executorService() throws Exception {
+        ExecutorService executorService = ExecutionContextHolder.wrap(Executors.newFixedThreadPool(2));
+        try {
+            ExecutionContext<Long, Void> executionContext = new ExecutionContext<>("executor");
+            ExecutionContextHolder.set(executionContext);
+
+            Assertions.assertSame(
+                    executionContext,
+                    executorService.submit(() -> ExecutionContextHolder.get()).get());
+            String requestId = CompletableFuture.supplyAsync(
+                            () -> ExecutionContextHolder.get().getRequestId(), executorService)
+                    .thenApplyAsync(s -> s + ExecutionContextHolder.get().getRequestId(), executorService)
+                    .get();
+            Assertions.assertEquals("executorexecutor", requestId);
+
+            /* context is not leaked to pool thread */
+            ExecutionContextHolder.clear();
+            AtomicReference<Object> leaked = new AtomicReference<>();
+            executorService.submit(() -> leaked.set(ExecutionContextHolder.get())).get();
+            Assertions.assertNull(leaked.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void test_inheritableMode() throws Exception {
+        ExecutionContextHolder.setMode(ExecutionContextHolder.Mode.INHERITABLE_THREAD_LOCAL);
+        try {
+            ExecutionContext<Long, Void> executionContext = new ExecutionContext<>("inherit");
+            ExecutionContextHolder.set(executionContext);
+            AtomicReference<Object> inherited = new AtomicReference<>();
+            Thread thread = new Thread(() -> inherited.set(ExecutionContextHolder.get()));
+            thread.start();
+            thread.join();
+            Assertions.assertSame(executionContext, inherited.get());
+        } finally {
+            ExecutionContextHolder.setMode(ExecutionContextHolder.Mode.THREAD_LOCAL);
+        }
+    }
+}
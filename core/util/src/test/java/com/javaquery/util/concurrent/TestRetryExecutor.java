@@ -0,0 +1,204 @@
+package com.javaquery.util.concurrent;
+
+import com.javaquery.util.ExecutionContext;
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.ActivityStatus;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestRetryExecutor {
+
+    public enum RetryAction implements Action {
+        RETRY
+    }
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executor;
+    private RetryExecutor retryExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        executor = Executors.newCachedThreadPool();
+        retryExecutor =
+                new RetryExecutor(scheduler, executor).withBackoff(Duration.ofMillis(1), Duration.ofMillis(5), 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void test_retryUntilSuccess() throws Exception {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(RetryAction.RETRY, 3);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = retryExecutor.execute(executionContext, () -> {
+            Assertions.assertSame(executionContext, ExecutionContextHolder.get());
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("attempt " + attempts.get());
+            }
+            return "done";
+        });
+        Assertions.assertEquals("done", result.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(2, executionContext.getRetriesAttempted());
+        Assertions.assertEquals(ActivityStatus.COMPLETED, executionContext.getActivityStatus());
+    }
+
+    @Test
+    public void test_retriesExhausted() throws Exception {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(RetryAction.RETRY, 2);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = retryExecutor.executeAsync(executionContext, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("failed"));
+        });
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(2, executionContext.getRetriesAttempted());
+        Assertions.assertEquals(ActivityStatus.FAILED, executionContext.getActivityStatus());
+    }
+
+    @Test
+    public void test_retryOn() {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(RetryAction.RETRY, 5);
+        AtomicInteger attempts = new AtomicInteger();
+        retryExecutor.retryOn(throwable -> throwable instanceof IllegalStateException);
+        CompletableFuture<String> result = retryExecutor.execute(executionContext, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("not retried");
+        });
+        Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(0, executionContext.getRetriesAttempted());
+    }
+
+    @Test
+    public void test_nullMaxRetries() {
+        Integer maxRetries = null;
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(RetryAction.RETRY, maxRetries);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = retryExecutor.execute(executionContext, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("failed");
+        });
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(ActivityStatus.FAILED, executionContext.getActivityStatus());
+    }
+
+    @Test
+    public void test_retryOnThrows() {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(RetryAction.RETRY, 5);
+        retryExecutor.retryOn(throwable -> {
+            throw new UnsupportedOperationException("predicate failed");
+        });
+        CompletableFuture<String> result = retryExecutor.executeAsync(
+                executionContext, () -> CompletableFuture.failedFuture(new IllegalStateException("failed")));
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof UnsupportedOperationException);
+        Assertions.assertTrue(exception.getCause().getSuppressed()[0] instanceof IllegalStateException);
+        Assertions.assertEquals(ActivityStatus.FAILED, executionContext.getActivityStatus());
+    }
+
+    @Test
+    public void test_blockingAttemptDoesNotHoldScheduler() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocked =
+                retryExecutor.execute(new ExecutionContext<>(RetryAction.RETRY, 0), () -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return "blocked";
+                });
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> retried =
+                retryExecutor.execute(new ExecutionContext<>(RetryAction.RETRY, 1), () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException("failed");
+                    }
+                    return "retried";
+                });
+        Assertions.assertEquals("retried", retried.get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(blocked.isDone());
+        release.countDown();
+        Assertions.assertEquals("blocked", blocked.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void test_nullStage() throws Exception {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(RetryAction.RETRY, 2);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = retryExecutor.executeAsync(executionContext, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                return null;
+            }
+            return CompletableFuture.completedFuture("done");
+        });
+        Assertions.assertEquals("done", result.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executionContext.getRetriesAttempted());
+
+        ExecutionContext<Long, Void> exhausted = new ExecutionContext<>(RetryAction.RETRY, 0);
+        CompletableFuture<String> failed = retryExecutor.executeAsync(exhausted, () -> null);
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof NullPointerException);
+        Assertions.assertEquals(ActivityStatus.FAILED, exhausted.getActivityStatus());
+    }
+
+    @Test
+    public void test_rejectedExecution() {
+        executor.shutdown();
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(RetryAction.RETRY, 2);
+        CompletableFuture<String> result = retryExecutor.execute(executionContext, () -> "done");
+        Assertions.assertTrue(result.isCompletedExceptionally());
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof RejectedExecutionException);
+        Assertions.assertEquals(ActivityStatus.FAILED, executionContext.getActivityStatus());
+    }
+
+    @Test
+    public void test_delay() {
+        RetryExecutor noJitter = new RetryExecutor(scheduler, executor)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(300), 2)
+                .withJitter(0);
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), noJitter.delayNanos(1));
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(200), noJitter.delayNanos(2));
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(300), noJitter.delayNanos(3));
+
+        long jittered = retryExecutor.withJitter(1).delayNanos(1);
+        Assertions.assertTrue(jittered >= 0 && jittered <= TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    public void test_negativeBackoff() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> retryExecutor.withBackoff(Duration.ofMillis(-1), Duration.ofMillis(5), 2));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> retryExecutor.withBackoff(Duration.ofMillis(1), Duration.ofMillis(-5), 2));
+    }
+}
@@ -0,0 +1,160 @@
+package com.javaquery.util.concurrent;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestSingleFlight {
+
+    @Test
+    public void test_execute() throws Exception {
+        SingleFlight<Integer, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<String> first = start(() -> singleFlight.execute(1, key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "one";
+        }));
+        Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+        FutureTask<String> second = startAndAwaitJoined(() -> singleFlight.execute(1, key -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        release.countDown();
+        Assertions.assertEquals("one", first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("one", second.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(0, singleFlight.inFlight());
+
+        Assertions.assertEquals("again", singleFlight.execute(1, key -> "again"));
+    }
+
+    @Test
+    public void test_executeException() throws Exception {
+        SingleFlight<Integer, String> singleFlight = new SingleFlight<>();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<String> first = start(() -> singleFlight.execute(1, key -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("failed");
+        }));
+        Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+        FutureTask<String> second = startAndAwaitJoined(() -> singleFlight.execute(1, key -> "other"));
+        release.countDown();
+        assertFailedWith(IllegalStateException.class, first);
+        assertFailedWith(IllegalStateException.class, second);
+        Assertions.assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void test_executeAll() throws Exception {
+        SingleFlight<Integer, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loadedKeys = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<String> first = start(() -> singleFlight.execute(2, key -> {
+            loadedKeys.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "two";
+        }));
+        Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+        FutureTask<Map<Integer, String>> all =
+                startAndAwaitJoined(() -> singleFlight.executeAll(Arrays.asList(1, 2, 3, 1, 4), keys -> {
+                    loadedKeys.addAndGet(keys.size());
+                    Assertions.assertEquals(Arrays.asList(1, 3, 4), keys);
+                    return load(keys);
+                }));
+        release.countDown();
+        Assertions.assertEquals("two", first.get(5, TimeUnit.SECONDS));
+        Map<Integer, String> values = all.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), List.copyOf(values.keySet()));
+        Assertions.assertEquals("two", values.get(2));
+        Assertions.assertEquals(4, loadedKeys.get());
+        Assertions.assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void test_executeAllNullKey() {
+        SingleFlight<Integer, String> singleFlight = new SingleFlight<>();
+        Assertions.assertThrows(
+                NullPointerException.class, () -> singleFlight.executeAll(Arrays.asList(1, null), this::failLoad));
+        Assertions.assertEquals(0, singleFlight.inFlight());
+        Assertions.assertEquals("one", singleFlight.execute(1, key -> "one"));
+    }
+
+    private Map<Integer, String> failLoad(List<Integer> keys) {
+        throw new AssertionError("must not load");
+    }
+
+    private static Map<Integer, String> load(List<Integer> keys) {
+        Map<Integer, String> values = new LinkedHashMap<>();
+        for (Integer key : keys) {
+            // key 4 doesn't exist
+            if (key != 4) {
+                values.put(key, "v" + key);
+            }
+        }
+        return values;
+    }
+
+    private static <T> FutureTask<T> start(Callable<T> callable) {
+        FutureTask<T> task = new FutureTask<>(callable);
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+        return task;
+    }
+
+    /**
+     * Start caller and return once it waits for load in flight, the only place it parks.
+     */
+    private static <T> FutureTask<T> startAndAwaitJoined(Callable<T> callable) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        FutureTask<T> task = new FutureTask<>(() -> {
+            started.countDown();
+            return callable.call();
+        });
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && !task.isDone()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "caller didn't join load in flight");
+            Thread.onSpinWait();
+        }
+        return task;
+    }
+
+    private static void assertFailedWith(Class<? extends Throwable> type, FutureTask<?> task) throws Exception {
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> task.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(type, exception.getCause().getClass());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
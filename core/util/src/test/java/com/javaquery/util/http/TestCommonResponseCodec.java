@@ -0,0 +1,92 @@
+package com.javaquery.util.http;
+
+import com.javaquery.util.io.BinaryCodec;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestCommonResponseCodec {
+
+    private static final CommonResponseCodec<List<String>> CODEC =
+            new CommonResponseCodec<>(BinaryCodec.listOf(BinaryCodec.STRING));
+
+    @Test
+    public void test_roundTrip() {
+        CommonResponse<List<String>> response = CommonResponse.of(
+                        HttpStatusCode.OK, "smörgåsbord", Arrays.asList("a", null, "€"))
+                .withPage(-1)
+                .withLimit(50)
+                .withTotal(Long.MAX_VALUE);
+        CommonResponse<List<String>> decoded = CODEC.fromByteArray(CODEC.toByteArray(response));
+
+        Assertions.assertEquals(200, decoded.getStatusCode());
+        Assertions.assertEquals(response.getMessage(), decoded.getMessage());
+        Assertions.assertEquals(response.getPayload(), decoded.getPayload());
+        Assertions.assertEquals(Collections.emptyList(), decoded.getErrorMessages());
+        Assertions.assertEquals(-1, decoded.getPage());
+        Assertions.assertEquals(50, decoded.getLimit());
+        Assertions.assertEquals(Long.MAX_VALUE, decoded.getTotal());
+    }
+
+    @Test
+    public void test_roundTripWithoutPayload() {
+        CommonResponseCodec<Object> codec = new CommonResponseCodec<>();
+        CommonResponse<Object> response =
+                CommonResponse.of(HttpStatusCode.BAD_REQUEST, Collections.singletonList("name is required"));
+        CommonResponse<Object> decoded = codec.fromByteArray(codec.toByteArray(response));
+
+        Assertions.assertEquals(400, decoded.getStatusCode());
+        Assertions.assertNull(decoded.getMessage());
+        Assertions.assertNull(decoded.getPayload());
+        Assertions.assertEquals(response.getErrorMessages(), decoded.getErrorMessages());
+        Assertions.assertNull(decoded.getPage());
+        Assertions.assertNull(decoded.getTotal());
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> codec.toByteArray(CommonResponse.ok("payload")));
+    }
+
+    @Test
+    public void test_smallerThanJson() {
+        List<String> payload = Arrays.asList("alpha", "beta", "gamma", "delta");
+        CommonResponse<List<String>> response =
+                CommonResponse.of(HttpStatusCode.OK, "OK", payload).withPage(0).withLimit(20).withTotal(4L);
+        byte[] json = CommonResponseWriter.toByteArray(
+                response, (value, out) -> out.write("[\"alpha\",\"beta\",\"gamma\",\"delta\"]".getBytes()));
+        byte[] binary = CODEC.toByteArray(response);
+        Assertions.assertTrue(binary.length * 2 < json.length, binary.length + " vs " + json.length);
+    }
+
+    @Test
+    public void test_malformed() {
+        byte[] bytes = CODEC.toByteArray(CommonResponse.of(HttpStatusCode.OK, "message"));
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> CODEC.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1)));
+        bytes[0] = 2;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CODEC.fromByteArray(bytes));
+    }
+
+    @Test
+    public void test_negotiate() {
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate(null));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("*/*"));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("text/html"));
+        Assertions.assertEquals(
+                ResponseFormat.BINARY, ResponseFormat.negotiate("application/x-javaquery-binary"));
+        Assertions.assertEquals(
+                ResponseFormat.BINARY,
+                ResponseFormat.negotiate("application/json;q=0.5, application/x-javaquery-binary"));
+        Assertions.assertEquals(
+                ResponseFormat.JSON,
+                ResponseFormat.negotiate("application/json, application/x-javaquery-binary;q=0.9"));
+        Assertions.assertEquals(
+                ResponseFormat.BINARY, ResponseFormat.fromContentType("application/x-javaquery-binary; v=1"));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.fromContentType("application/json"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.javaquery.util.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javaquery.util.collection.Collections;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestCommonResponseWriter {
+
+    private static final PayloadWriter STRING_PAYLOAD_WRITER = (payload, outputStream) ->
+            outputStream.write(("\"" + payload + "\"").getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    public void test_write() {
+        CommonResponse<String> commonResponse =
+                CommonResponse.of(HttpStatusCode.OK, "message", "payload").withPage(1).withLimit(10).withTotal(100L);
+        Assertions.assertEquals(
+                "{\"statusCode\":200,\"message\":\"message\",\"payload\":\"payload\",\"errorMessages\":[],"
+                        + "\"page\":1,\"limit\":10,\"total\":100}",
+                new String(
+                        CommonResponseWriter.toByteArray(commonResponse, STRING_PAYLOAD_WRITER), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_writeErrorMessages() {
+        CommonResponse<String> commonResponse =
+                CommonResponse.of(HttpStatusCode.BAD_REQUEST, Collections.singletonList("\"name\" is\trequired\u0001"));
+        Assertions.assertEquals(
+                "{\"statusCode\":400,\"errorMessages\":[\"\\\"name\\\" is\\trequired\\u0001\"]}",
+                new String(CommonResponseWriter.toByteArray(commonResponse, null), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_controlCharactersMatchJackson() throws Exception {
+        StringBuilder message = new StringBuilder("\"quoted\" \\ /");
+        for (char c = 0; c < 0x20; c++) {
+            message.append(c);
+        }
+        message.append("\u007f\u2028");
+        CommonResponse<String> commonResponse = CommonResponse.of(
+                HttpStatusCode.BAD_REQUEST, Collections.singletonList(message.toString()));
+        Assertions.assertEquals(
+                new ObjectMapper().writeValueAsString(commonResponse),
+                new String(CommonResponseWriter.toByteArray(commonResponse, null), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_payloadWriterRequired() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> CommonResponseWriter.toByteArray(CommonResponse.ok("payload"), null));
+    }
+
+    @Test
+    public void test_preSerializedResponse() throws Exception {
+        PreSerializedResponse notFound = PreSerializedResponse.of(HttpStatusCode.NOT_FOUND);
+        Assertions.assertSame(notFound, PreSerializedResponse.of(HttpStatusCode.NOT_FOUND));
+        Assertions.assertEquals(404, notFound.getStatusCode());
+        Assertions.assertEquals(
+                "{\"statusCode\":404,\"message\":\"Not Found\",\"errorMessages\":[]}", notFound.toString());
+
+        PreSerializedResponse userNotFound = PreSerializedResponse.of(HttpStatusCode.NOT_FOUND, "User not found");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        userNotFound.writeTo(outputStream);
+        Assertions.assertArrayEquals(userNotFound.toByteArray(), outputStream.toByteArray());
+        Assertions.assertEquals(userNotFound.length(), outputStream.size());
+        Assertions.assertTrue(userNotFound.asByteBuffer().isReadOnly());
+
+        /* returned bytes are a copy */
+        userNotFound.toByteArray()[0] = 0;
+        Assertions.assertEquals('{', userNotFound.toByteArray()[0]);
+    }
+}
@@ -0,0 +1,42 @@
+package com.javaquery.util.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestHttpStatusCode {
+
+    @Test
+    public void test_resolve() {
+        for (int statusCode = -1; statusCode <= 700; statusCode++) {
+            Assertions.assertEquals(linearScan(statusCode), HttpStatusCode.resolve(statusCode));
+        }
+        Assertions.assertEquals(HttpStatusCode.FOUND, HttpStatusCode.resolve(302));
+        Assertions.assertEquals(HttpStatusCode.PAYLOAD_TOO_LARGE, HttpStatusCode.valueOf(413));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HttpStatusCode.valueOf(600));
+    }
+
+    @Test
+    public void test_seriesResolve() {
+        Assertions.assertNull(HttpStatusCode.Series.resolve(99));
+        Assertions.assertEquals(HttpStatusCode.Series.INFORMATIONAL, HttpStatusCode.Series.resolve(100));
+        Assertions.assertEquals(HttpStatusCode.Series.SUCCESSFUL, HttpStatusCode.Series.resolve(299));
+        Assertions.assertEquals(HttpStatusCode.Series.REDIRECTION, HttpStatusCode.Series.resolve(300));
+        Assertions.assertEquals(HttpStatusCode.Series.CLIENT_ERROR, HttpStatusCode.Series.resolve(451));
+        Assertions.assertEquals(HttpStatusCode.Series.SERVER_ERROR, HttpStatusCode.Series.valueOf(599));
+        Assertions.assertNull(HttpStatusCode.Series.resolve(600));
+        Assertions.assertNull(HttpStatusCode.Series.resolve(-100));
+    }
+
+    private static HttpStatusCode linearScan(int statusCode) {
+        for (HttpStatusCode status : HttpStatusCode.values()) {
+            if (status.value() == statusCode) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
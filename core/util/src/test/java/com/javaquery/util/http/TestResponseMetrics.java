@@ -0,0 +1,90 @@
+package com.javaquery.util.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestResponseMetrics {
+
+    @Test
+    public void test_record() {
+        ResponseMetrics responseMetrics = new ResponseMetrics(3);
+        responseMetrics.record(HttpStatusCode.OK);
+        responseMetrics.record(HttpStatusCode.OK);
+        responseMetrics.record(HttpStatusCode.NOT_FOUND);
+        responseMetrics.record(HttpStatusCode.SERVICE_UNAVAILABLE);
+        responseMetrics.record(99);
+        responseMetrics.record(600);
+
+        ResponseMetricsSnapshot snapshot = responseMetrics.snapshot();
+        Assertions.assertEquals(4, snapshot.getTotal());
+        Assertions.assertEquals(2, snapshot.getCount(HttpStatusCode.OK));
+        Assertions.assertEquals(1, snapshot.getCount(404));
+        Assertions.assertEquals(0, snapshot.getCount(600));
+        Assertions.assertEquals(2, snapshot.getCount(HttpStatusCode.Series.SUCCESSFUL));
+        Assertions.assertEquals(1, snapshot.getCount(HttpStatusCode.Series.CLIENT_ERROR));
+        Assertions.assertEquals(0.25, snapshot.getRate(HttpStatusCode.Series.SERVER_ERROR));
+        Assertions.assertEquals(3, snapshot.getCounts().size());
+        Assertions.assertEquals(5, snapshot.getSeriesCounts().size());
+
+        responseMetrics.clear();
+        Assertions.assertEquals(0, responseMetrics.snapshot().getTotal());
+        Assertions.assertEquals(0.0, responseMetrics.snapshot().getRate(HttpStatusCode.Series.SUCCESSFUL));
+    }
+
+    @Test
+    public void test_concurrentRecord() throws InterruptedException {
+        ResponseMetrics responseMetrics = new ResponseMetrics();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    responseMetrics.record(HttpStatusCode.INTERNAL_SERVER_ERROR);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(80_000, responseMetrics.snapshot().getCount(HttpStatusCode.INTERNAL_SERVER_ERROR));
+    }
+
+    @Test
+    public void test_disabled() {
+        ResponseMetrics responseMetrics = new ResponseMetrics(1);
+        responseMetrics.setEnabled(false);
+        responseMetrics.record(HttpStatusCode.OK);
+        Assertions.assertEquals(0, responseMetrics.snapshot().getTotal());
+    }
+
+    @Test
+    public void test_global() {
+        ResponseMetricsSnapshot before = ResponseMetrics.global().snapshot();
+        CommonResponse.of(HttpStatusCode.CONFLICT, "conflict");
+        CommonResponse.ok("payload");
+        PreSerializedResponse.of(HttpStatusCode.GONE, "gone");
+        PreSerializedResponse.of(HttpStatusCode.GONE).toByteArray();
+        ResponseMetricsSnapshot after = ResponseMetrics.global().snapshot();
+
+        Assertions.assertEquals(1, after.getCount(HttpStatusCode.CONFLICT) - before.getCount(HttpStatusCode.CONFLICT));
+        Assertions.assertEquals(1, after.getCount(HttpStatusCode.OK) - before.getCount(HttpStatusCode.OK));
+        Assertions.assertEquals(1, after.getCount(HttpStatusCode.GONE) - before.getCount(HttpStatusCode.GONE));
+    }
+
+    @Test
+    public void test_export() {
+        ResponseMetrics responseMetrics = new ResponseMetrics(1);
+        responseMetrics.record(HttpStatusCode.ACCEPTED);
+        AtomicReference<ResponseMetricsSnapshot> exported = new AtomicReference<>();
+        responseMetrics.export(exported::set);
+        Assertions.assertEquals(1, exported.get().getCount(HttpStatusCode.ACCEPTED));
+    }
+}
@@ -0,0 +1,58 @@
+package com.javaquery.util.http;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestStreamingCommonResponse {
+
+    private static final PayloadWriter NUMBER_WRITER = (payload, outputStream) ->
+            outputStream.write(String.valueOf(payload).getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    public void test_iterator() throws Exception {
+        StreamingCommonResponse<Integer> response = StreamingCommonResponse.<Integer>of(
+                        HttpStatusCode.OK, "exported", Arrays.asList(1, null, 3).iterator())
+                .withPage(0)
+                .withLimit(10);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Assertions.assertEquals(3, response.writeTo(outputStream, NUMBER_WRITER));
+        Assertions.assertEquals(
+                "{\"statusCode\":200,\"message\":\"exported\",\"page\":0,\"limit\":10,"
+                        + "\"payload\":[1,null,3],\"total\":3,\"errorMessages\":[]}",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_stream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicReference<StreamingCommonResponse<Integer>> response = new AtomicReference<>();
+        Stream<Integer> stream = IntStream.rangeClosed(1, 100_000)
+                .boxed()
+                .peek(i -> {
+                    if (i % 50_000 == 0) {
+                        response.get().addErrorMessage("row " + i + " skipped");
+                    }
+                })
+                .onClose(() -> closed.set(true));
+        response.set(StreamingCommonResponse.of(HttpStatusCode.OK, stream));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Assertions.assertEquals(100_000, response.get().writeTo(outputStream, NUMBER_WRITER));
+        String json = outputStream.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.startsWith("{\"statusCode\":200,\"payload\":[1,2,3,"));
+        Assertions.assertTrue(json.endsWith(",99999,100000],\"total\":100000,"
+                + "\"errorMessages\":[\"row 50000 skipped\",\"row 100000 skipped\"]}"));
+        Assertions.assertTrue(closed.get());
+    }
+}
@@ -0,0 +1,89 @@
+package com.javaquery.util.io;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestBinaryCodec {
+
+    @Test
+    public void test_roundTrip() {
+        int[] ints = {0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        long[] longs = {0, -1, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE};
+        BinaryWriter writer = new BinaryWriter(1);
+        for (int value : ints) {
+            writer.writeInt(value);
+        }
+        for (long value : longs) {
+            writer.writeLong(value);
+        }
+        writer.writeDouble(-0.1).writeBoolean(true).writeString(null).writeString("").writeString("café");
+        writer.writeBytes(new byte[] {1, 2, 3}).writeVarInt(300).writeVarLong(-1);
+
+        BinaryReader reader = new BinaryReader(writer.toByteArray());
+        for (int value : ints) {
+            Assertions.assertEquals(value, reader.readInt());
+        }
+        for (long value : longs) {
+            Assertions.assertEquals(value, reader.readLong());
+        }
+        Assertions.assertEquals(-0.1, reader.readDouble());
+        Assertions.assertTrue(reader.readBoolean());
+        Assertions.assertNull(reader.readString());
+        Assertions.assertEquals("", reader.readString());
+        Assertions.assertEquals("café", reader.readString());
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, reader.readBytes());
+        Assertions.assertEquals(300, reader.readVarInt());
+        Assertions.assertEquals(-1L, reader.readVarLong());
+        Assertions.assertEquals(0, reader.remaining());
+        Assertions.assertThrows(IllegalArgumentException.class, reader::readByte);
+    }
+
+    @Test
+    public void test_size() {
+        Assertions.assertEquals(1, new BinaryWriter().writeInt(-64).size());
+        Assertions.assertEquals(2, new BinaryWriter().writeInt(64).size());
+        Assertions.assertEquals(5, new BinaryWriter().writeVarInt(-1).size());
+        Assertions.assertEquals(10, new BinaryWriter().writeVarLong(-1).size());
+    }
+
+    @Test
+    public void test_invalidLength() {
+        byte[] bytes = new BinaryWriter().writeVarInt(10).writeByte('a').toByteArray();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryReader(bytes).readString());
+    }
+
+    @Test
+    public void test_varIntOverflow() {
+        byte[] maxInt = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        Assertions.assertEquals(-1, new BinaryReader(maxInt).readVarInt());
+        byte[] overflow = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x1F};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryReader(overflow).readVarInt());
+
+        byte[] longOverflow = new byte[10];
+        Arrays.fill(longOverflow, (byte) 0xFF);
+        longOverflow[9] = 0x02;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BinaryReader(longOverflow).readVarLong());
+        longOverflow[9] = 0x01;
+        Assertions.assertEquals(-1L, new BinaryReader(longOverflow).readVarLong());
+    }
+
+    @Test
+    public void test_nullableNumbers() {
+        Assertions.assertNull(BinaryCodec.INTEGER.fromByteArray(BinaryCodec.INTEGER.toByteArray(null)));
+        Assertions.assertNull(BinaryCodec.LONG.fromByteArray(BinaryCodec.LONG.toByteArray(null)));
+        Assertions.assertNull(BinaryCodec.DOUBLE.fromByteArray(BinaryCodec.DOUBLE.toByteArray(null)));
+        Assertions.assertEquals(-7, BinaryCodec.INTEGER.fromByteArray(BinaryCodec.INTEGER.toByteArray(-7)));
+        Assertions.assertEquals(1L << 40, BinaryCodec.LONG.fromByteArray(BinaryCodec.LONG.toByteArray(1L << 40)));
+        Assertions.assertEquals(0.5, BinaryCodec.DOUBLE.fromByteArray(BinaryCodec.DOUBLE.toByteArray(0.5)));
+
+        BinaryCodec<List<Integer>> codec = BinaryCodec.listOf(BinaryCodec.INTEGER);
+        List<Integer> values = Arrays.asList(1, null, 3);
+        Assertions.assertEquals(values, codec.fromByteArray(codec.toByteArray(values)));
+    }
+}
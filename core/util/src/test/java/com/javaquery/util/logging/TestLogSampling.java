@@ -0,0 +1,100 @@
+package com.javaquery.util.logging;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestLogSampling {
+
+    public enum SamplingAction implements Action {
+        DEFAULT,
+        NEVER,
+        FIXED_RATE,
+        TOKEN_BUCKET,
+        TAIL
+    }
+
+    @Test
+    public void test_default() {
+        LogBuilder logBuilder = new LogBuilder(SamplingAction.DEFAULT);
+        logBuilder.buildMessage("Hello");
+        Assertions.assertTrue(logBuilder.isSampled());
+        Assertions.assertEquals("Hello", logBuilder.getMessage());
+    }
+
+    @Test
+    public void test_never() {
+        LogSampling.register(SamplingAction.NEVER, LogSampler.NEVER);
+        LogBuilder logBuilder = new LogBuilder(SamplingAction.NEVER);
+        logBuilder.buildMessage("Hello");
+        logBuilder.buildMessage("IntKey", 0);
+        logBuilder.addTag("tag");
+        logBuilder.put("key", "value");
+        Assertions.assertFalse(logBuilder.isSampled());
+
+        /* dropped entry is still recorded, only writing it is skipped */
+        Assertions.assertEquals("Hello\nIntKey : 0", logBuilder.getMessage());
+        Assertions.assertEquals("value", logBuilder.get("key"));
+        Assertions.assertEquals(Arrays.asList("tag"), logBuilder.get(LogBuilder.TAGS));
+        Assertions.assertEquals(4, logBuilder.getAttributes().size());
+
+        LogSampling.unregister(SamplingAction.NEVER);
+        Assertions.assertTrue(new LogBuilder(SamplingAction.NEVER).isSampled());
+    }
+
+    @Test
+    public void test_fixedRate() {
+        Assertions.assertTrue(LogSampler.fixedRate(1).sample(SamplingAction.FIXED_RATE));
+        Assertions.assertFalse(LogSampler.fixedRate(0).sample(SamplingAction.FIXED_RATE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LogSampler.fixedRate(2));
+
+        LogSampler logSampler = LogSampler.fixedRate(0.5);
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (logSampler.sample(SamplingAction.FIXED_RATE)) {
+                sampled++;
+            }
+        }
+        Assertions.assertTrue(sampled > 4000 && sampled < 6000);
+    }
+
+    @Test
+    public void test_tokenBucket() {
+        LogSampler logSampler = LogSampler.tokenBucket(0.001, 3);
+        Assertions.assertTrue(logSampler.sample(SamplingAction.TOKEN_BUCKET));
+        Assertions.assertTrue(logSampler.sample(SamplingAction.TOKEN_BUCKET));
+        Assertions.assertTrue(logSampler.sample(SamplingAction.TOKEN_BUCKET));
+        Assertions.assertFalse(logSampler.sample(SamplingAction.TOKEN_BUCKET));
+
+        /* interval and burst overflow long nanoseconds without clamp */
+        LogSampler slow = LogSampler.tokenBucket(1e-12, 5);
+        Assertions.assertTrue(slow.sample(SamplingAction.TOKEN_BUCKET));
+        Assertions.assertFalse(slow.sample(SamplingAction.TOKEN_BUCKET));
+        Assertions.assertFalse(slow.sample(SamplingAction.TOKEN_BUCKET));
+    }
+
+    @Test
+    public void test_tail() {
+        LogSampling.register(SamplingAction.TAIL, LogSampler.tail(LogSampler.NEVER));
+
+        LogBuilder completed = new LogBuilder(SamplingAction.TAIL);
+        completed.buildMessage("Hello");
+        completed.setActivityStatus(ActivityStatus.COMPLETED);
+        Assertions.assertFalse(completed.isSampled());
+
+        LogBuilder failed = new LogBuilder(SamplingAction.TAIL);
+        failed.buildMessage("Hello");
+        failed.setActivityStatus(ActivityStatus.FAILED);
+        Assertions.assertTrue(failed.isSampled());
+        Assertions.assertEquals("Hello", failed.getMessage());
+
+        LogBuilder completedWithError = new LogBuilder(SamplingAction.TAIL);
+        completedWithError.setActivityStatus(ActivityStatus.COMPLETED_WITH_ERROR);
+        Assertions.assertTrue(completedWithError.isSampled());
+        LogSampling.unregister(SamplingAction.TAIL);
+    }
+}
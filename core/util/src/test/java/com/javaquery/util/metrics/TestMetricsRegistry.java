@@ -0,0 +1,169 @@
+package com.javaquery.util.metrics;
+
+import com.javaquery.util.ExecutionContext;
+import com.javaquery.util.concurrent.ExecutionContextHolder;
+import com.javaquery.util.logging.Action;
+import com.javaquery.util.logging.ActivityStatus;
+import com.javaquery.util.logging.LogBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestMetricsRegistry {
+
+    public enum MetricsAction implements Action {
+        HISTOGRAM,
+        LOG_BUILDER,
+        EXECUTION_CONTEXT,
+        LOGGED_CONTEXT,
+        EXPORT
+    }
+
+    @Test
+    public void test_bucketIndex() {
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1000, 999_999, 123_456_789, LatencyHistogram.MAX_TRACKABLE_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assertions.assertTrue(LatencyHistogram.highestValueOf(index) >= value);
+            Assertions.assertTrue(value <= LatencyHistogram.SUB_BUCKET_COUNT
+                    || LatencyHistogram.highestValueOf(index - 1) < value);
+        }
+    }
+
+    @Test
+    public void test_percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(1000, snapshot.getCount());
+        Assertions.assertEquals(TimeUnit.MICROSECONDS.toNanos(1), snapshot.getMin());
+        Assertions.assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), snapshot.getMax());
+        assertWithinPrecision(TimeUnit.MICROSECONDS.toNanos(500), snapshot.getP50());
+        assertWithinPrecision(TimeUnit.MICROSECONDS.toNanos(990), snapshot.getP99());
+        assertWithinPrecision(TimeUnit.MICROSECONDS.toNanos(999), snapshot.getP999());
+        Assertions.assertEquals(0, new LatencyHistogram().snapshot().getP99());
+    }
+
+    @Test
+    public void test_record() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.record(MetricsAction.HISTOGRAM, ActivityStatus.COMPLETED, 100);
+        registry.record(MetricsAction.HISTOGRAM, ActivityStatus.FAILED, 200);
+        registry.increment(MetricsAction.HISTOGRAM, ActivityStatus.STARTED);
+        registry.record(null, ActivityStatus.COMPLETED, 100);
+
+        ActionMetricsSnapshot snapshot = registry.snapshot(MetricsAction.HISTOGRAM);
+        Assertions.assertEquals(1, snapshot.getCount(ActivityStatus.COMPLETED));
+        Assertions.assertEquals(1, snapshot.getCount(ActivityStatus.FAILED));
+        Assertions.assertEquals(1, snapshot.getCount(ActivityStatus.STARTED));
+        Assertions.assertEquals(0, snapshot.getCount(ActivityStatus.PROCESSING));
+        Assertions.assertEquals(2, snapshot.getLatency().getCount());
+        Assertions.assertEquals(1, registry.snapshot().size());
+
+        registry.setEnabled(false);
+        registry.record(MetricsAction.HISTOGRAM, ActivityStatus.COMPLETED, 100);
+        Assertions.assertEquals(
+                1, registry.snapshot(MetricsAction.HISTOGRAM).getCount(ActivityStatus.COMPLETED));
+    }
+
+    @Test
+    public void test_logBuilder() {
+        LogBuilder logBuilder = new LogBuilder(MetricsAction.LOG_BUILDER);
+        logBuilder.setExecutionStartTime();
+        logBuilder.setActivityStatus(ActivityStatus.COMPLETED);
+        logBuilder.setExecutionEndTime();
+
+        ActionMetricsSnapshot snapshot = MetricsRegistry.global().snapshot(MetricsAction.LOG_BUILDER);
+        Assertions.assertEquals(1, snapshot.getCount(ActivityStatus.COMPLETED));
+        Assertions.assertEquals(1, snapshot.getLatency().getCount());
+        Assertions.assertEquals(ActivityStatus.COMPLETED, logBuilder.get(LogBuilder.ACTIVITY_STATUS));
+    }
+
+    @Test
+    public void test_executionContext() {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(1L, MetricsAction.EXECUTION_CONTEXT);
+        executionContext.setActivityStatus(ActivityStatus.STARTED);
+        executionContext.setActivityStatus(ActivityStatus.COMPLETED_WITH_ERROR);
+
+        ActionMetricsSnapshot snapshot = MetricsRegistry.global().snapshot(MetricsAction.EXECUTION_CONTEXT);
+        Assertions.assertEquals(1, snapshot.getCount(ActivityStatus.STARTED));
+        Assertions.assertEquals(1, snapshot.getCount(ActivityStatus.COMPLETED_WITH_ERROR));
+        Assertions.assertEquals(1, snapshot.getLatency().getCount());
+    }
+
+    @Test
+    public void test_logBuilderWithinExecutionContext() {
+        ExecutionContext<Long, Void> executionContext = new ExecutionContext<>(1L, MetricsAction.LOGGED_CONTEXT);
+        ExecutionContextHolder.runWith(executionContext, () -> {
+            LogBuilder logBuilder = new LogBuilder(MetricsAction.LOGGED_CONTEXT);
+            // context records the execution
+            logBuilder.setRecordMetrics(false);
+            logBuilder.setExecutionStartTime();
+            logBuilder.setActivityStatus(ActivityStatus.COMPLETED);
+            logBuilder.setExecutionEndTime();
+            executionContext.setActivityStatus(ActivityStatus.COMPLETED);
+        });
+
+        ActionMetricsSnapshot snapshot = MetricsRegistry.global().snapshot(MetricsAction.LOGGED_CONTEXT);
+        Assertions.assertEquals(1, snapshot.getCount(ActivityStatus.COMPLETED));
+        Assertions.assertEquals(1, snapshot.getLatency().getCount());
+    }
+
+    @Test
+    public void test_export() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.record(MetricsAction.EXPORT, ActivityStatus.COMPLETED, 100);
+
+        AtomicReference<List<ActionMetricsSnapshot>> exported = new AtomicReference<>();
+        registry.export(exported::set);
+        Assertions.assertEquals(1, exported.get().size());
+        Assertions.assertEquals(MetricsAction.EXPORT, exported.get().get(0).getAction());
+
+        registry.clear();
+        Assertions.assertNull(registry.snapshot(MetricsAction.EXPORT));
+    }
+
+    @Test
+    public void test_maxActions() {
+        MetricsRegistry registry = new MetricsRegistry(2);
+        for (int i = 0; i < 10; i++) {
+            Action action = new DynamicAction("action" + i);
+            registry.record(action, ActivityStatus.COMPLETED, 100);
+            registry.increment(action, ActivityStatus.STARTED);
+        }
+        Assertions.assertEquals(2, registry.snapshot().size());
+        Assertions.assertNull(registry.metrics(new DynamicAction("action9")));
+        Assertions.assertNotNull(registry.metrics(new DynamicAction("action0")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MetricsRegistry(0));
+    }
+
+    private static final class DynamicAction implements Action {
+        private final String name;
+
+        private DynamicAction(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DynamicAction && name.equals(((DynamicAction) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(expected - actual) <= expected / 50, expected + " != " + actual);
+    }
+}
@@ -0,0 +1,178 @@
+package com.javaquery.util.number;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestFixedDecimal {
+
+    private static final RoundingMode[] ROUNDING_MODES = {
+        RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.HALF_DOWN, RoundingMode.UP, RoundingMode.DOWN,
+        RoundingMode.CEILING, RoundingMode.FLOOR
+    };
+
+    @Test
+    public void test_parse() {
+        FixedDecimal decimal = FixedDecimal.parse("-12.340");
+        Assertions.assertEquals(-12340L, decimal.getUnscaledValue());
+        Assertions.assertEquals(3, decimal.getScale());
+        Assertions.assertEquals("-12.340", decimal.toString());
+        Assertions.assertEquals("0.05", FixedDecimal.parse("+.05").toString());
+        Assertions.assertEquals("7", FixedDecimal.parse("7.").toString());
+        Assertions.assertEquals(Long.MIN_VALUE, FixedDecimal.parse("-9223372036854775808").getUnscaledValue());
+        Assertions.assertEquals("2.34", FixedDecimal.parse("2.345", 2, RoundingMode.HALF_EVEN).toString());
+        Assertions.assertEquals("2.35", FixedDecimal.parse("2.345", 2, RoundingMode.HALF_UP).toString());
+
+        String[] invalid = {"", "-", ".", "1.2.3", "1e5", "12a", "9223372036854775808", "0.1234567890123456789"};
+        for (String value : invalid) {
+            Assertions.assertThrows(NumberFormatException.class, () -> FixedDecimal.parse(value), value);
+        }
+    }
+
+    @Test
+    public void test_arithmetic() {
+        FixedDecimal price = FixedDecimal.parse("19.99");
+        FixedDecimal total = price.multiply(FixedDecimal.valueOf(3)).add(FixedDecimal.parse("4.50"));
+        Assertions.assertEquals("64.47", total.toString());
+        Assertions.assertEquals("9.21", total.divide(FixedDecimal.valueOf(7), RoundingMode.HALF_EVEN).toString());
+        Assertions.assertEquals("0.1", FixedDecimal.parse("0.3").subtract(FixedDecimal.parse("0.2")).toString());
+        FixedDecimal rate = FixedDecimal.parse("0.05");
+        Assertions.assertEquals("0.12", FixedDecimal.parse("2.50").multiply(rate, RoundingMode.HALF_EVEN).toString());
+        Assertions.assertEquals("0.13", FixedDecimal.parse("2.50").multiply(rate).toString());
+        Assertions.assertEquals("-3.33", FixedDecimal.parse("-10.00").divide(3, RoundingMode.HALF_UP).toString());
+        Assertions.assertEquals(FixedDecimal.parse("1.01"), FixedDecimal.valueOf(1.005, 2));
+        Assertions.assertEquals(0.1, FixedDecimal.parse("0.10").doubleValue());
+
+        Assertions.assertThrows(
+                ArithmeticException.class, () -> FixedDecimal.ONE.divide(FixedDecimal.ZERO, RoundingMode.HALF_UP));
+        Assertions.assertThrows(
+                ArithmeticException.class, () -> FixedDecimal.valueOf(Long.MAX_VALUE).add(FixedDecimal.ONE));
+        Assertions.assertThrows(
+                ArithmeticException.class, () -> FixedDecimal.parse("2.5").setScale(0, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    public void test_compare() {
+        Assertions.assertEquals(0, FixedDecimal.parse("2.0").compareTo(FixedDecimal.parse("2.00")));
+        Assertions.assertNotEquals(FixedDecimal.parse("2.0"), FixedDecimal.parse("2.00"));
+        Assertions.assertTrue(FixedDecimal.parse("2.01").compareTo(FixedDecimal.parse("2.001")) > 0);
+        Assertions.assertTrue(FixedDecimal.of(Long.MAX_VALUE, 0).compareTo(FixedDecimal.of(1, 18)) > 0);
+        Assertions.assertTrue(FixedDecimal.of(1, 18).compareTo(FixedDecimal.of(Long.MIN_VALUE, 0)) > 0);
+    }
+
+    @Test
+    public void test_againstBigDecimal() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            FixedDecimal left = FixedDecimal.of(random.nextLong() >> random.nextInt(64), random.nextInt(10));
+            FixedDecimal right = FixedDecimal.of((random.nextLong() >> random.nextInt(64)) | 1, random.nextInt(10));
+            RoundingMode roundingMode = ROUNDING_MODES[random.nextInt(ROUNDING_MODES.length)];
+            BigDecimal l = left.toBigDecimal();
+            BigDecimal r = right.toBigDecimal();
+
+            assertSame(() -> l.add(r), () -> left.add(right));
+            assertSame(() -> l.subtract(r), () -> left.subtract(right));
+            assertSame(
+                    () -> l.multiply(r).setScale(left.getScale(), roundingMode),
+                    () -> left.multiply(right, roundingMode));
+            assertSame(
+                    () -> l.divide(r, left.getScale(), roundingMode), () -> left.divide(right, roundingMode));
+            int newScale = random.nextInt(19);
+            assertSame(() -> l.setScale(newScale, roundingMode), () -> left.setScale(newScale, roundingMode));
+            Assertions.assertEquals(Integer.signum(l.compareTo(r)), Integer.signum(left.compareTo(right)));
+            Assertions.assertEquals(l.toPlainString(), left.toString());
+            Assertions.assertEquals(l.doubleValue(), left.doubleValue());
+            Assertions.assertEquals(left, FixedDecimal.parse(left.toString()));
+        }
+    }
+
+    @Test
+    public void test_valueOfDouble() {
+        Assertions.assertEquals("703794656.8100000", FixedDecimal.valueOf(7.0379465681E8, 7).toString());
+        Assertions.assertEquals("43653089250503.20", FixedDecimal.valueOf(4.3653089250503195E13, 2).toString());
+        Assertions.assertEquals("282.4246135403279", FixedDecimal.valueOf(282.42461354032787, 13).toString());
+        Assertions.assertEquals("-2.50", FixedDecimal.valueOf(-2.495, 2).toString());
+        Assertions.assertThrows(ArithmeticException.class, () -> FixedDecimal.valueOf(1e10, 10));
+        Assertions.assertThrows(ArithmeticException.class, () -> FixedDecimal.valueOf(Double.NaN, 2));
+
+        Random random = new Random(11);
+        for (int i = 0; i < 200_000; i++) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16));
+            int scale = random.nextInt(FixedDecimal.MAX_SCALE + 1);
+            assertSame(
+                    () -> BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP),
+                    () -> FixedDecimal.valueOf(value, scale));
+        }
+    }
+
+    @Test
+    public void test_accumulator() {
+        FixedDecimalAccumulator accumulator = new FixedDecimalAccumulator(2);
+        accumulator.add(FixedDecimal.parse("0.10")).add(FixedDecimal.parse("0.20")).add(FixedDecimal.parse("0.005"));
+        Assertions.assertEquals("0.31", accumulator.get().toString());
+        accumulator.addProduct(FixedDecimal.parse("19.99"), 3);
+        Assertions.assertEquals("60.28", accumulator.get().toString());
+        accumulator.addProduct(FixedDecimal.parse("100.00"), FixedDecimal.parse("0.0825"));
+        Assertions.assertEquals("68.53", accumulator.get().toString());
+        accumulator.addUnscaled(1999, 2);
+        Assertions.assertEquals(6, accumulator.getCount());
+
+        FixedDecimalAccumulator other = new FixedDecimalAccumulator(2, RoundingMode.HALF_EVEN);
+        other.addProduct(FixedDecimal.parse("0.05"), FixedDecimal.parse("0.5"));
+        Assertions.assertEquals("0.02", other.get().toString());
+        accumulator.add(other);
+        Assertions.assertEquals("88.54", accumulator.toString());
+        Assertions.assertEquals(7, accumulator.getCount());
+
+        accumulator.reset();
+        Assertions.assertEquals(FixedDecimal.of(0, 2), accumulator.get());
+        Assertions.assertEquals(0, accumulator.getCount());
+    }
+
+    @Test
+    public void test_accumulatorAgainstBigDecimal() {
+        Random random = new Random(11);
+        FixedDecimalAccumulator accumulator = new FixedDecimalAccumulator(4, RoundingMode.HALF_EVEN);
+        BigDecimal expected = BigDecimal.ZERO.setScale(4);
+        for (int i = 0; i < 10_000; i++) {
+            FixedDecimal value = FixedDecimal.of(random.nextInt(10_000_000), random.nextInt(7));
+            FixedDecimal rate = FixedDecimal.of(random.nextInt(100_000), random.nextInt(7));
+            accumulator.addProduct(value, rate);
+            expected = expected.add(
+                    value.toBigDecimal().multiply(rate.toBigDecimal()).setScale(4, RoundingMode.HALF_EVEN));
+        }
+        Assertions.assertEquals(expected.toPlainString(), accumulator.toString());
+    }
+
+    private static void assertSame(Expected expected, Actual actual) {
+        BigDecimal expectedValue;
+        try {
+            expectedValue = expected.get();
+            if (expectedValue.scale() > FixedDecimal.MAX_SCALE
+                    || expectedValue.unscaledValue().bitLength() > 63) {
+                expectedValue = null;
+            }
+        } catch (ArithmeticException e) {
+            expectedValue = null;
+        }
+        if (expectedValue == null) {
+            Assertions.assertThrows(ArithmeticException.class, actual::get);
+        } else {
+            Assertions.assertEquals(expectedValue.toPlainString(), actual.get().toString());
+        }
+    }
+
+    private interface Expected {
+        BigDecimal get();
+    }
+
+    private interface Actual {
+        FixedDecimal get();
+    }
+}
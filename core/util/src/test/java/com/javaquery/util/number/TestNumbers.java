@@ -1,5 +1,10 @@
 package com.javaquery.util.number;
 
+import com.javaquery.util.Regex;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -16,4 +21,185 @@ public class TestNumbers {
         Assertions.assertEquals(10.1235, Numbers.roundDecimal(number, 4));
         Assertions.assertEquals(10.58, Numbers.roundDecimal(10.576D, 2));
     }
+
+    @Test
+    public void test_roundDecimalPrimitive() {
+        Assertions.assertEquals(1.01, Numbers.roundDecimal(1.005, 2));
+        Assertions.assertEquals(2.68, Numbers.roundDecimal(2.675, 2));
+        Assertions.assertEquals(-3.0, Numbers.roundDecimal(-2.5, 0));
+        Assertions.assertEquals(0.0, Numbers.roundDecimal(-0.001, 2));
+        Assertions.assertEquals(20.0, Numbers.roundDecimal(15.0, -1));
+        Assertions.assertEquals(1e20, Numbers.roundDecimal(1e20, 2));
+        Assertions.assertTrue(Double.isNaN(Numbers.roundDecimal(Double.NaN, 2)));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, Numbers.roundDecimal(Double.NEGATIVE_INFINITY, 2));
+    }
+
+    @Test
+    public void test_roundDecimalAgainstBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            int decimalPlaces = random.nextInt(12);
+            double number;
+            switch (i % 4) {
+                case 0:
+                    // decimal ties like 123.4565
+                    number = (random.nextInt(2_000_000) - 1_000_000) * 10 + 5;
+                    number = number / Math.pow(10, decimalPlaces + 1);
+                    break;
+                case 1:
+                    number = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16));
+                    break;
+                case 2:
+                    number = random.nextDouble() * Math.pow(10, -random.nextInt(20));
+                    break;
+                default:
+                    number = Double.longBitsToDouble(random.nextLong());
+                    if (Double.isNaN(number) || Double.isInfinite(number)) {
+                        continue;
+                    }
+            }
+            assertRoundDecimal(number, decimalPlaces);
+        }
+    }
+
+    @Test
+    public void test_roundDecimalArray() {
+        double[] numbers = {1.005, -2.675, 10.123456789, 0};
+        double[] rounded = Numbers.roundDecimal(numbers, 2);
+        Assertions.assertArrayEquals(new double[] {1.01, -2.68, 10.12, 0}, rounded);
+        Assertions.assertEquals(1.005, numbers[0]);
+
+        Numbers.roundDecimalInPlace(numbers, 1);
+        Assertions.assertArrayEquals(new double[] {1.0, -2.7, 10.1, 0}, numbers);
+
+        double[] tens = {15.0, -25.0};
+        Numbers.roundDecimalInPlace(tens, -1);
+        Assertions.assertArrayEquals(new double[] {20.0, -30.0}, tens);
+    }
+
+    @Test
+    public void test_isNumber() {
+        String[] values = {"0", "-0", "12.5", "-12.50", "007", "", "-", ".5", "5.", "1e5", "+1", "1.2.3", " 1", "1-"};
+        for (String value : values) {
+            Assertions.assertEquals(value.matches(Regex.REGEX_NUMBER), Numbers.isNumber(value), value);
+        }
+        Assertions.assertFalse(Numbers.isNumber(null));
+    }
+
+    @Test
+    public void test_parseInt() {
+        Assertions.assertEquals(-42, Numbers.parseInt("-42", 0));
+        Assertions.assertEquals(42, Numbers.parseInt("+42", 0));
+        Assertions.assertEquals(Integer.MAX_VALUE, Numbers.parseInt("2147483647", 0));
+        Assertions.assertEquals(Integer.MIN_VALUE, Numbers.parseInt("-2147483648", 0));
+        String[] invalid = {"2147483648", "-2147483649", "", "-", "+", "4x2", "1.0", " 1", null};
+        for (String value : invalid) {
+            Assertions.assertEquals(-1, Numbers.parseInt(value, -1), value);
+        }
+        byte[] line = "id,123,abc".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(123, Numbers.parseInt(line, 3, 3, -1));
+        Assertions.assertEquals(-1, Numbers.parseInt(line, 7, 3, -1));
+    }
+
+    @Test
+    public void test_parseLong() {
+        Assertions.assertEquals(Long.MAX_VALUE, Numbers.parseLong("9223372036854775807", 0));
+        Assertions.assertEquals(Long.MIN_VALUE, Numbers.parseLong("-9223372036854775808", 0));
+        Assertions.assertEquals(0, Numbers.parseLong("9223372036854775808", 0));
+        Assertions.assertEquals(-1, Numbers.parseLong("", -1));
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            byte[] bytes = ("x" + value + "y").getBytes(StandardCharsets.US_ASCII);
+            Assertions.assertEquals(value, Numbers.parseLong(Long.toString(value), 0));
+            Assertions.assertEquals(value, Numbers.parseLong(bytes, 1, bytes.length - 2, 0));
+        }
+    }
+
+    @Test
+    public void test_parseDouble() {
+        String[] values = {
+            "0",
+            "-0.0",
+            "1",
+            "-1.5e3",
+            "1E-3",
+            ".5",
+            "5.",
+            "0.1",
+            "3.141592653589793",
+            "9007199254740993",
+            "1.7976931348623157e308",
+            "1.7976931348623159e308",
+            "4.9e-324",
+            "2.4703282292062328e-324",
+            "2.2250738585072011e-308",
+            "1e-400",
+            "1e400",
+            "123456789012345678901234567890",
+            "0.000000000000000000000000000000000000001",
+            "7.3177701707893310e+15",
+            "1.00000000000000011102230246251565",
+            "0000000000000000000000000000001.5",
+            "1e+0"
+        };
+        for (String value : values) {
+            Assertions.assertEquals(Double.parseDouble(value), Numbers.parseDouble(value, Double.NaN), value);
+        }
+        String[] invalid = {"", "-", ".", "e5", "1e", "1e+", "1.2.3", "NaN", "Infinity", "0x1p3", "1d", " 1", "1,5"};
+        for (String value : invalid) {
+            Assertions.assertTrue(Double.isNaN(Numbers.parseDouble(value, Double.NaN)), value);
+        }
+        byte[] line = "price=19.99;".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(19.99, Numbers.parseDouble(line, 6, 5, Double.NaN));
+    }
+
+    @Test
+    public void test_parseDoubleAgainstJdk() {
+        Random random = new Random(5);
+        for (int i = 0; i < 300_000; i++) {
+            String value;
+            switch (i % 3) {
+                case 0:
+                    value = Double.toString(Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE));
+                    break;
+                case 1:
+                    value = (random.nextLong() >>> random.nextInt(64)) + "e" + (random.nextInt(700) - 350);
+                    break;
+                default:
+                    StringBuilder digits = new StringBuilder();
+                    int length = 1 + random.nextInt(25);
+                    for (int j = 0; j < length; j++) {
+                        digits.append((char) ('0' + random.nextInt(10)));
+                    }
+                    digits.insert(random.nextInt(length + 1), '.');
+                    value = (random.nextBoolean() ? "-" : "") + digits;
+            }
+            if (value.contains("NaN") || value.contains("Infinity") || ".".equals(value) || "-.".equals(value)) {
+                continue;
+            }
+            double expected = Double.parseDouble(value);
+            Assertions.assertEquals(expected, Numbers.parseDouble(value, Double.NaN), value);
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            Assertions.assertEquals(expected, Numbers.parseDouble(bytes, 0, bytes.length, Double.NaN), value);
+        }
+    }
+
+    @Test
+    public void test_parseDecimal() {
+        Assertions.assertEquals(FixedDecimal.of(-12340, 3), Numbers.parseDecimal("-12.340", null));
+        Assertions.assertNull(Numbers.parseDecimal("12.3.4", null));
+        Assertions.assertNull(Numbers.parseDecimal((CharSequence) null, null));
+        Assertions.assertEquals(FixedDecimal.ZERO, Numbers.parseDecimal("abc", FixedDecimal.ZERO));
+        byte[] line = "amount:-0.05".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(FixedDecimal.of(-5, 2), Numbers.parseDecimal(line, 7, 5, null));
+    }
+
+    private static void assertRoundDecimal(double number, int decimalPlaces) {
+        double expected = BigDecimal.valueOf(number)
+                .setScale(decimalPlaces, RoundingMode.HALF_UP)
+                .doubleValue();
+        Assertions.assertEquals(
+                expected, Numbers.roundDecimal(number, decimalPlaces), number + " to " + decimalPlaces + " places");
+    }
 }
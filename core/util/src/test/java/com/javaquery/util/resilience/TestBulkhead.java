@@ -0,0 +1,67 @@
+package com.javaquery.util.resilience;
+
+import com.javaquery.util.logging.Action;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestBulkhead {
+
+    public enum BulkheadAction implements Action {
+        BULKHEAD
+    }
+
+    @Test
+    public void test_bulkhead() {
+        Bulkhead bulkhead = new Bulkhead(BulkheadAction.BULKHEAD, 2);
+        Assertions.assertTrue(bulkhead.tryAcquirePermission());
+        Assertions.assertEquals("ok", bulkhead.execute(() -> "ok"));
+        Assertions.assertTrue(bulkhead.tryAcquirePermission());
+        Assertions.assertEquals(2, bulkhead.getConcurrentCalls());
+
+        Assertions.assertThrows(CallNotPermittedException.class, () -> bulkhead.execute(() -> "ok"));
+        Assertions.assertEquals(Bulkhead.State.SATURATED, bulkhead.getState());
+
+        bulkhead.release();
+        Assertions.assertEquals(Bulkhead.State.AVAILABLE, bulkhead.getState());
+        bulkhead.execute(() -> Assertions.assertEquals(2, bulkhead.getConcurrentCalls()));
+        bulkhead.release();
+        Assertions.assertEquals(0, bulkhead.getConcurrentCalls());
+
+        // release without permission doesn't grant extra permission
+        bulkhead.release();
+        Assertions.assertEquals(0, bulkhead.getConcurrentCalls());
+        Assertions.assertTrue(bulkhead.tryAcquirePermission());
+        Assertions.assertTrue(bulkhead.tryAcquirePermission());
+        Assertions.assertFalse(bulkhead.tryAcquirePermission());
+    }
+
+    @Test
+    public void test_saturatedHysteresis() {
+        Bulkhead bulkhead = new Bulkhead(BulkheadAction.BULKHEAD, 4, 1);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(bulkhead.tryAcquirePermission());
+        }
+        // sustained overload, every permit released is taken again
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertFalse(bulkhead.tryAcquirePermission());
+            bulkhead.release();
+            Assertions.assertTrue(bulkhead.tryAcquirePermission());
+        }
+        Assertions.assertEquals(Bulkhead.State.SATURATED, bulkhead.getState());
+        Assertions.assertEquals(1, bulkhead.getTransitionCount());
+
+        bulkhead.release();
+        bulkhead.release();
+        Assertions.assertEquals(Bulkhead.State.SATURATED, bulkhead.getState());
+        bulkhead.release();
+        Assertions.assertEquals(Bulkhead.State.AVAILABLE, bulkhead.getState());
+        Assertions.assertEquals(2, bulkhead.getTransitionCount());
+        bulkhead.release();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Bulkhead(BulkheadAction.BULKHEAD, 4, 4));
+    }
+}
@@ -0,0 +1,95 @@
+package com.javaquery.util.resilience;
+
+import com.javaquery.util.logging.Action;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author vicky.thakor
+ * @since 1.0.0
+ */
+public class TestCircuitBreaker {
+
+    public enum ResilienceAction implements Action {
+        CIRCUIT_BREAKER,
+        HALF_OPEN,
+        STALE,
+        REGISTRY
+    }
+
+    @Test
+    public void test_opensOnFailureRate() {
+        CircuitBreaker circuitBreaker =
+                new CircuitBreaker(ResilienceAction.CIRCUIT_BREAKER, 0.5, 10, 4, Duration.ofMinutes(1), 1);
+        Assertions.assertEquals("ok", circuitBreaker.execute(() -> "ok"));
+        Assertions.assertEquals("ok", circuitBreaker.execute(() -> "ok"));
+        fail(circuitBreaker);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        fail(circuitBreaker);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assertions.assertEquals(0.5, circuitBreaker.getFailureRate());
+        Assertions.assertTrue(circuitBreaker.getRemainingWaitMillis() > 0);
+        Assertions.assertThrows(CallNotPermittedException.class, () -> circuitBreaker.execute(() -> "ok"));
+    }
+
+    @Test
+    public void test_halfOpen() {
+        CircuitBreaker circuitBreaker =
+                new CircuitBreaker(ResilienceAction.HALF_OPEN, 1, 2, 2, Duration.ZERO, 1);
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        /* wait duration elapsed, trial call fails */
+        fail(circuitBreaker);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        /* only one trial call is permitted */
+        CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+        Assertions.assertNotNull(permission);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assertions.assertNull(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onSuccess(permission);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertEquals(0, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    public void test_staleCompletionIgnored() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(ResilienceAction.STALE, 1, 2, 2, Duration.ZERO, 1);
+        CircuitBreaker.Permission closed = circuitBreaker.tryAcquirePermission();
+        fail(circuitBreaker);
+        fail(circuitBreaker);
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        /* call permitted while closed completes after breaker moved to half-open */
+        CircuitBreaker.Permission trial = circuitBreaker.tryAcquirePermission();
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess(closed);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onError(closed);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        /* late trial completion of earlier half-open state doesn't reopen closed breaker */
+        circuitBreaker.onSuccess(trial);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.onError(trial);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assertions.assertEquals(0, circuitBreaker.getFailureRate());
+    }
+
+    @Test
+    public void test_registry() {
+        CircuitBreaker circuitBreaker = CircuitBreaker.of(ResilienceAction.REGISTRY);
+        Assertions.assertSame(circuitBreaker, CircuitBreaker.of(ResilienceAction.REGISTRY));
+        CircuitBreaker registered = CircuitBreaker.register(new CircuitBreaker(ResilienceAction.REGISTRY));
+        Assertions.assertSame(registered, CircuitBreaker.of(ResilienceAction.REGISTRY));
+    }
+
+    private static void fail(CircuitBreaker circuitBreaker) {
+        Assertions.assertThrows(IllegalStateException.class, () -> circuitBreaker.execute(() -> {
+            throw new IllegalStateException("failed");
+        }));
+    }
+}